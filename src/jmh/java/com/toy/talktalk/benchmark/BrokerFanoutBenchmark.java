@@ -0,0 +1,93 @@
+package com.toy.talktalk.benchmark;
+
+import com.toy.talktalk.global.websocket.ChatSubscriptionRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// simple broker 기본 registry vs 채팅방 색인 registry — 세션 10k / 채팅방 1k (채팅방당 10명)
+// publish: 채팅방 메시지 1건 fan-out, churn: 구독 / 해제 1쌍
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BrokerFanoutBenchmark {
+
+    private static final int SESSION_COUNT = 10_000;
+    private static final int ROOM_COUNT = 1_000;
+
+    @Param({"simple", "indexed"})
+    private String registry;
+
+    private SimpleBrokerMessageHandler brokerMessageHandler;
+    private Message<byte[]>[] roomMessages;
+    private Message<byte[]> churnSubscribe;
+    private Message<byte[]> churnUnsubscribe;
+    private long delivered;
+    private int nextRoom;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MessageChannel clientOutboundChannel = (message, timeout) -> {
+            delivered++;
+            return true;
+        };
+        brokerMessageHandler = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutboundChannel,
+                new ExecutorSubscribableChannel(), List.of("/sub"));
+        if ("indexed".equals(registry)) {
+            brokerMessageHandler.setSubscriptionRegistry(new ChatSubscriptionRegistry());
+        }
+        brokerMessageHandler.start();
+
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            brokerMessageHandler.handleMessage(subscription(SimpMessageType.SUBSCRIBE, "s" + i, "/sub/room/" + (i % ROOM_COUNT)));
+        }
+        byte[] payload = "{\"eventType\":\"MESSAGE\",\"messageId\":1,\"roomId\":1,\"content\":\"안녕하세요\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        roomMessages = new Message[ROOM_COUNT];
+        for (int room = 0; room < ROOM_COUNT; room++) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination("/sub/room/" + room);
+            roomMessages[room] = MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        }
+        churnSubscribe = subscription(SimpMessageType.SUBSCRIBE, "churn", "/sub/room/7");
+        churnUnsubscribe = subscription(SimpMessageType.UNSUBSCRIBE, "churn", null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        brokerMessageHandler.stop();
+    }
+
+    @Benchmark
+    public long publish() {
+        nextRoom = (nextRoom + 1) % ROOM_COUNT;
+        brokerMessageHandler.handleMessage(roomMessages[nextRoom]);
+        return delivered;
+    }
+
+    @Benchmark
+    public void churn() {
+        brokerMessageHandler.handleMessage(churnSubscribe);
+        brokerMessageHandler.handleMessage(churnUnsubscribe);
+    }
+
+    private Message<byte[]> subscription(SimpMessageType type, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,77 @@
+package com.toy.talktalk.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.global.redis.BinaryChatEventCodec;
+import com.toy.talktalk.global.redis.JsonChatEventCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 기존 GenericJackson2JsonRedisSerializer vs JSON 코덱 vs 바이너리 코덱 — 인코딩/디코딩 시간 비교 (크기는 ChatEventCodecTest)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatEventCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer legacySerializer;
+    private JsonChatEventCodec jsonCodec;
+    private BinaryChatEventCodec binaryCodec;
+    private ChatEvent event;
+    private byte[] legacyPayload;
+    private byte[] jsonPayload;
+    private byte[] binaryPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        legacySerializer = new GenericJackson2JsonRedisSerializer(objectMapper.copy());
+        jsonCodec = new JsonChatEventCodec(objectMapper);
+        binaryCodec = new BinaryChatEventCodec();
+
+        event = new ChatMessageResponse(123456789012345L, 42L, 7L, "닉네임",
+                "안녕하세요, 오늘 회의는 3시에 시작합니다.", MessageType.TEXT, LocalDateTime.now());
+        legacyPayload = legacySerializer.serialize(event);
+        jsonPayload = jsonCodec.encode(event);
+        binaryPayload = binaryCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeLegacy() {
+        return legacySerializer.serialize(event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryCodec.encode(event);
+    }
+
+    @Benchmark
+    public Object decodeLegacy() {
+        return legacySerializer.deserialize(legacyPayload);
+    }
+
+    @Benchmark
+    public List<ChatEvent> decodeJson() {
+        return jsonCodec.decode(jsonPayload);
+    }
+
+    @Benchmark
+    public List<ChatEvent> decodeBinary() {
+        return binaryCodec.decode(binaryPayload);
+    }
+}
@@ -0,0 +1,52 @@
+package com.toy.talktalk.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 플랫폼 스레드 / 가상 스레드 모드 처리량과 p99 지연 비교 — 실행 중인 서버에 히스토리 조회(JDBC + Redis 블로킹) 부하
+// 서버를 모드별로 띄운 뒤 각각 실행해 결과 비교
+//   ./gradlew bootRun                                                                  (플랫폼 스레드)
+//   ./gradlew -PjavaVersion=21 bootRun --args='--spring.threads.virtual.enabled=true'  (가상 스레드)
+//   LOADTEST_TOKEN={accessToken} LOADTEST_ROOM_ID={roomId} ./gradlew jmh -PjmhIncludes=ExecutionModeLoadBenchmark
+// Throughput → ops/s, SampleTime → p0.99 를 비교
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+public class ExecutionModeLoadBenchmark {
+
+    private HttpClient httpClient;
+    private HttpRequest historyRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String baseUrl = System.getenv().getOrDefault("LOADTEST_BASE_URL", "http://localhost:8080");
+        String token = System.getenv().getOrDefault("LOADTEST_TOKEN", "");
+        String roomId = System.getenv().getOrDefault("LOADTEST_ROOM_ID", "1");
+
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        historyRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/rooms/" + roomId + "/messages?size=30"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+
+    @Benchmark
+    public int history() throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(historyRequest, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("응답 상태 " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
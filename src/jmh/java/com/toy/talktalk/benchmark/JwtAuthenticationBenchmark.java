@@ -0,0 +1,78 @@
+package com.toy.talktalk.benchmark;
+
+import com.toy.talktalk.global.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건의 Access Token 인증 비용
+//   legacy   — 기존 validateToken + extractUserId (호출마다 파서 생성 + 파싱 2회)
+//   parse    — 재사용 파서로 파싱 1회 (캐시 비활성)
+//   cached   — 검증된 토큰 캐시 적중 (tokens 개의 토큰을 번갈아 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-characters-long";
+
+    @Param({"1", "1000"})
+    private int tokens;
+
+    private SecretKey secretKey;
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private String[] accessTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtProvider(SECRET, 3_600_000L, 604_800_000L, 0);
+        cachedProvider = new JwtProvider(SECRET, 3_600_000L, 604_800_000L, 10_000);
+        accessTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            accessTokens[i] = cachedProvider.generateAccessToken((long) i + 1);
+        }
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken legacy() {
+        String token = nextToken();
+        legacyParse(token);
+        Long userId = Long.parseLong(legacyParse(token).getSubject());
+        return new UsernamePasswordAuthenticationToken(userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken parse() {
+        return uncachedProvider.authenticate(nextToken());
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken cached() {
+        return cachedProvider.authenticate(nextToken());
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private String nextToken() {
+        String token = accessTokens[next];
+        next = next + 1 == accessTokens.length ? 0 : next + 1;
+        return token;
+    }
+}
@@ -0,0 +1,80 @@
+package com.toy.talktalk.benchmark;
+
+import com.toy.talktalk.TalktalkApplication;
+import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatRoomResponse;
+import com.toy.talktalk.domain.chat.dto.CreateChatRoomRequest;
+import com.toy.talktalk.domain.chat.entity.ChatRoomType;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.domain.chat.service.ChatMessageBatchWriter;
+import com.toy.talktalk.domain.chat.service.ChatMessageService;
+import com.toy.talktalk.domain.chat.service.ChatRoomService;
+import com.toy.talktalk.domain.user.entity.User;
+import com.toy.talktalk.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 메시지 1건당 1트랜잭션 vs 그룹 커밋 처리량 비교 (local 프로파일의 MariaDB / Redis 필요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class MessageWriteBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ChatMessageService chatMessageService;
+    private ChatMessageBatchWriter chatMessageBatchWriter;
+    private Long senderId;
+    private ChatMessageRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TalktalkApplication.class)
+                .profiles("local")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "chat.message.group-commit.enabled=true")
+                .run();
+        chatMessageService = context.getBean(ChatMessageService.class);
+        chatMessageBatchWriter = context.getBean(ChatMessageBatchWriter.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User sender = userRepository.save(buildUser("sender"));
+        User receiver = userRepository.save(buildUser("receiver"));
+        senderId = sender.getId();
+
+        ChatRoomResponse room = context.getBean(ChatRoomService.class).createChatRoom(
+                senderId, new CreateChatRoomRequest(ChatRoomType.DIRECT, null, List.of(receiver.getId())));
+        request = new ChatMessageRequest(room.id(), "benchmark", MessageType.TEXT, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ChatMessageResponse saveMessagePerTransaction() {
+        return chatMessageService.saveMessage(senderId, request);
+    }
+
+    @Benchmark
+    public ChatMessageResponse saveMessageGroupCommit() {
+        return chatMessageBatchWriter.submit(senderId, request).join();
+    }
+
+    private User buildUser(String prefix) {
+        return User.builder()
+                .email(prefix + System.nanoTime() + "@benchmark.com")
+                .password("benchmark")
+                .nickname(prefix)
+                .role("ROLE_USER")
+                .build();
+    }
+}
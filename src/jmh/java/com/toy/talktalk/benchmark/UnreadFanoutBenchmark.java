@@ -0,0 +1,67 @@
+package com.toy.talktalk.benchmark;
+
+import com.toy.talktalk.global.redis.UnreadCountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 멤버별 HINCRBY(기존) vs Lua 스크립트 1회 호출 비교 — localhost:6379 Redis (또는 호환 stand-in) 필요
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UnreadFanoutBenchmark {
+
+    private static final long ROOM_ID = 1L;
+    private static final long SENDER_ID = 1L;
+
+    @Param({"10", "100", "500"})
+    private int memberCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private UnreadCountService unreadCountService;
+    private long[] memberIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        unreadCountService = new UnreadCountService(redisTemplate);
+        memberIds = LongStream.rangeClosed(1, memberCount).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete("unread:" + ROOM_ID);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void incrementPerMember() {
+        String key = "unread:" + ROOM_ID;
+        for (long memberId : memberIds) {
+            if (memberId != SENDER_ID) {
+                redisTemplate.opsForHash().increment(key, String.valueOf(memberId), 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public void incrementWithScript() {
+        unreadCountService.incrementUnread(ROOM_ID, SENDER_ID, memberIds);
+    }
+}
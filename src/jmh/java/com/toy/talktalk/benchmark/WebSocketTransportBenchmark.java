@@ -0,0 +1,119 @@
+package com.toy.talktalk.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.global.redis.BinaryChatEventCodec;
+import com.toy.talktalk.global.redis.JsonChatEventCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.sockjs.frame.Jackson2SockJsMessageCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+// 구독 세션 1개에 채팅 메시지 1건을 내보낼 때의 프레임 인코딩 CPU 와 wire 바이트 비교
+// sockjs: STOMP 프레임을 SockJS "a[...]" JSON 배열로 한 번 더 감쌈 (text 전용)
+// native: STOMP 프레임 그대로 (binary 는 BinaryChatEventCodec 본문), deflate 는 permessage-deflate 와 같은 raw deflate + SYNC_FLUSH
+// frame() 은 wire 바이트 수를 반환 (WebSocket 프레임 헤더 2~4B 제외)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebSocketTransportBenchmark {
+
+    private static final int SAMPLE_MESSAGES = 64;
+    // RFC 7692 — SYNC_FLUSH 끝의 빈 블록(00 00 ff ff)은 전송하지 않음
+    private static final int DEFLATE_TRAILER = 4;
+
+    @Param({"sockjs-json", "native-json", "native-binary",
+            "native-json-deflate", "native-binary-deflate", "native-json-deflate-no-context"})
+    private String mode;
+
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final Jackson2SockJsMessageCodec sockJsCodec = new Jackson2SockJsMessageCodec();
+    private final byte[] deflateBuffer = new byte[64 * 1024];
+
+    private List<Message<byte[]>> messages;
+    private boolean sockJs;
+    private boolean deflate;
+    private boolean contextTakeover;
+    private Deflater deflater;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JsonChatEventCodec jsonCodec = new JsonChatEventCodec(objectMapper);
+        BinaryChatEventCodec binaryCodec = new BinaryChatEventCodec();
+        boolean binary = mode.contains("binary");
+        sockJs = mode.startsWith("sockjs");
+        deflate = mode.contains("deflate");
+        contextTakeover = !mode.endsWith("no-context");
+
+        messages = new ArrayList<>(SAMPLE_MESSAGES);
+        for (int i = 0; i < SAMPLE_MESSAGES; i++) {
+            ChatMessageResponse event = new ChatMessageResponse(123456789012345L + i, 42L, 7L + i % 5, "닉네임" + i % 5,
+                    "안녕하세요, 오늘 회의는 " + (i % 12 + 1) + "시에 시작합니다. 자료는 공유 폴더 " + i + "번을 확인해 주세요.",
+                    MessageType.TEXT, LocalDateTime.now());
+            messages.add(stompMessage(binary ? binaryCodec.encode(event) : jsonCodec.encode(event), binary, i));
+        }
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deflater.end();
+    }
+
+    @Benchmark
+    public int frame() {
+        return writeFrame();
+    }
+
+    // 한 세션으로 나가는 프레임 1개를 만들고 wire 바이트 수 반환
+    private int writeFrame() {
+        Message<byte[]> message = messages.get(next);
+        next = (next + 1) % SAMPLE_MESSAGES;
+        byte[] frame = stompEncoder.encode(message);
+        if (sockJs) {
+            return sockJsCodec.encode(new String(frame, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return deflate ? deflate(frame) : frame.length;
+    }
+
+    private int deflate(byte[] frame) {
+        if (!contextTakeover) {
+            deflater.reset();
+        }
+        deflater.setInput(frame);
+        int length = 0;
+        int written;
+        do {
+            written = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH);
+            length += written;
+        } while (written == deflateBuffer.length);
+        return length - DEFLATE_TRAILER;
+    }
+
+    private Message<byte[]> stompMessage(byte[] body, boolean binary, int index) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setNativeHeader("destination", "/sub/room/42");
+        accessor.setNativeHeader("subscription", "sub-0");
+        accessor.setNativeHeader("message-id", "a1b2c3d4-" + index);
+        accessor.setNativeHeader("content-type", binary ? "application/octet-stream" : "application/json");
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+}
@@ -2,11 +2,16 @@ package com.toy.talktalk.domain.chat.controller;
 
 import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
 import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatSignalRequest;
+import com.toy.talktalk.domain.chat.dto.MessageReceiptResponse;
+import com.toy.talktalk.domain.chat.service.ChatMessageBatchWriter;
 import com.toy.talktalk.domain.chat.service.ChatMessageService;
+import com.toy.talktalk.domain.chat.service.ChatSignalCoalescer;
+import com.toy.talktalk.global.exception.BusinessException;
 import com.toy.talktalk.global.redis.RedisChatPublisher;
-import com.toy.talktalk.global.redis.RedisSubscriptionManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -15,16 +20,55 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class ChatMessageHandler {
 
+    private static final String RECEIPT_DESTINATION = "/sub/receipts";
+
     private final ChatMessageService chatMessageService;
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+    private final ChatSignalCoalescer chatSignalCoalescer;
     private final RedisChatPublisher redisChatPublisher;
-    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final SimpMessagingTemplate messagingTemplate;
 
     @MessageMapping("/chat.send")
     public void sendMessage(ChatMessageRequest request, Principal principal) {
         Long senderId = Long.parseLong(principal.getName());
-        ChatMessageResponse response = chatMessageService.saveMessage(senderId, request);
 
-        redisSubscriptionManager.subscribeRoom(request.roomId());
-        redisChatPublisher.publish(request.roomId(), response);
+        if (chatMessageBatchWriter.isEnabled()) {
+            chatMessageBatchWriter.submit(senderId, request)
+                    .whenComplete((response, error) -> {
+                        if (error == null) {
+                            publishMessage(response);
+                        }
+                        sendReceipt(principal, request, response, error);
+                    });
+            return;
+        }
+
+        publishMessage(chatMessageService.saveMessage(senderId, request));
+    }
+
+    // 입력 중 등 휘발성 신호 — 저장 없이 모아서 /sub/room/{roomId}/signals 로 발행
+    @MessageMapping("/chat.signal")
+    public void sendSignal(ChatSignalRequest request, Principal principal) {
+        chatSignalCoalescer.submit(Long.parseLong(principal.getName()), request);
+    }
+
+    private void publishMessage(ChatMessageResponse response) {
+        redisChatPublisher.publish(response.roomId(), response);
+    }
+
+    // 그룹 커밋 결과를 발신자에게 전달 — 클라이언트는 /user/sub/receipts 구독
+    private void sendReceipt(Principal principal, ChatMessageRequest request,
+                             ChatMessageResponse response, Throwable error) {
+        MessageReceiptResponse receipt = error == null
+                ? MessageReceiptResponse.success(request.clientMessageId(), response)
+                : MessageReceiptResponse.failure(request.clientMessageId(), request.roomId(), resolveErrorCode(error));
+        messagingTemplate.convertAndSendToUser(principal.getName(), RECEIPT_DESTINATION, receipt);
+    }
+
+    private String resolveErrorCode(Throwable error) {
+        if (error instanceof BusinessException businessException) {
+            return businessException.getErrorCode().getCode();
+        }
+        return "INTERNAL_SERVER_ERROR";
     }
 }
@@ -4,14 +4,22 @@ import com.toy.talktalk.domain.chat.dto.ChatRoomResponse;
 import com.toy.talktalk.domain.chat.dto.CreateChatRoomRequest;
 import com.toy.talktalk.domain.chat.dto.InviteMemberRequest;
 import com.toy.talktalk.domain.chat.dto.MessagePageResponse;
+import com.toy.talktalk.domain.chat.dto.MessageSyncRequest;
+import com.toy.talktalk.domain.chat.dto.MessageSyncResponse;
 import com.toy.talktalk.domain.chat.service.ChatMessageService;
+import com.toy.talktalk.domain.chat.service.MessageExportFormat;
+import com.toy.talktalk.domain.chat.service.MessageExportService;
 import com.toy.talktalk.domain.chat.service.ChatRoomService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +30,7 @@ public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
     private final ChatMessageService chatMessageService;
+    private final MessageExportService messageExportService;
 
     @PostMapping
     public ResponseEntity<ChatRoomResponse> createChatRoom(
@@ -66,6 +75,15 @@ public class ChatRoomController {
         return ResponseEntity.ok(chatRoomService.getMyChatRooms(userId));
     }
 
+    // 재연결 시 채팅방별 마지막 수신 메시지 이후만 한 번에 조회
+    @PostMapping("/sync")
+    public ResponseEntity<MessageSyncResponse> syncMessages(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody @Valid MessageSyncRequest request
+    ) {
+        return ResponseEntity.ok(chatMessageService.syncMessages(userId, request.lastSeenMessageIds()));
+    }
+
     @PostMapping("/{roomId}/messages/read")
     public ResponseEntity<Void> markAsRead(
             @AuthenticationPrincipal Long userId,
@@ -84,4 +102,30 @@ public class ChatRoomController {
     ) {
         return ResponseEntity.ok(chatMessageService.getMessages(userId, roomId, cursor, limit));
     }
+
+    // 전체 히스토리 스트리밍 내보내기 (NDJSON / CSV), Accept-Encoding: gzip 이면 압축
+    @GetMapping("/{roomId}/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "NDJSON") MessageExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse servletResponse
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        // Content-Encoding 은 실제 스트리밍을 시작할 때만 — EXPORT_BUSY / 에러 응답은 압축되지 않은 JSON
+        StreamingResponseBody body = messageExportService.export(userId, roomId, format, gzip, () -> {
+            if (gzip) {
+                servletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+        });
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("room-" + roomId + "-messages." + format.getExtension())
+                        .build()
+                        .toString());
+        return response.body(body);
+    }
 }
@@ -6,7 +6,11 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "eventType")
 @JsonSubTypes({
         @JsonSubTypes.Type(value = ChatMessageResponse.class, name = "MESSAGE"),
-        @JsonSubTypes.Type(value = ReadAckResponse.class, name = "READ_ACK")
+        @JsonSubTypes.Type(value = ReadAckResponse.class, name = "READ_ACK"),
+        @JsonSubTypes.Type(value = ChatSignalResponse.class, name = "SIGNAL"),
+        @JsonSubTypes.Type(value = PresenceResponse.class, name = "PRESENCE")
 })
 public interface ChatEvent {
+
+    Long roomId();
 }
@@ -5,6 +5,7 @@ import com.toy.talktalk.domain.chat.entity.MessageType;
 public record ChatMessageRequest(
         Long roomId,
         String content,
-        MessageType type
+        MessageType type,
+        String clientMessageId
 ) {
 }
@@ -0,0 +1,8 @@
+package com.toy.talktalk.domain.chat.dto;
+
+public record ChatRoomMemberRow(
+        Long roomId,
+        Long userId,
+        String nickname
+) {
+}
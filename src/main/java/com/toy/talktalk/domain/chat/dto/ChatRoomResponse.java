@@ -18,20 +18,20 @@ public record ChatRoomResponse(
                 chatRoom.getId(),
                 chatRoom.getName(),
                 chatRoom.getType(),
-                chatRoom.getMembers().size(),
+                chatRoom.getMemberCount(),
                 0L,
                 chatRoom.getCreatedAt()
         );
     }
 
-    public static ChatRoomResponse from(ChatRoom chatRoom, long unreadCount) {
+    public static ChatRoomResponse from(ChatRoomSummary summary, long unreadCount) {
         return new ChatRoomResponse(
-                chatRoom.getId(),
-                chatRoom.getName(),
-                chatRoom.getType(),
-                chatRoom.getMembers().size(),
+                summary.id(),
+                summary.name(),
+                summary.type(),
+                summary.memberCount(),
                 unreadCount,
-                chatRoom.getCreatedAt()
+                summary.createdAt()
         );
     }
 }
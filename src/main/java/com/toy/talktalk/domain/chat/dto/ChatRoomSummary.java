@@ -0,0 +1,14 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import com.toy.talktalk.domain.chat.entity.ChatRoomType;
+
+import java.time.LocalDateTime;
+
+public record ChatRoomSummary(
+        Long id,
+        String name,
+        ChatRoomType type,
+        int memberCount,
+        LocalDateTime createdAt
+) {
+}
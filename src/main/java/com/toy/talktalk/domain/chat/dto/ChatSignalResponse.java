@@ -0,0 +1,8 @@
+package com.toy.talktalk.domain.chat.dto;
+
+public record ChatSignalResponse(
+        Long roomId,
+        Long userId,
+        SignalType type
+) implements ChatEvent {
+}
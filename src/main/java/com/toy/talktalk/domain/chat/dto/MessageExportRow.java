@@ -0,0 +1,15 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import com.toy.talktalk.domain.chat.entity.MessageType;
+
+import java.time.LocalDateTime;
+
+public record MessageExportRow(
+        Long messageId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        MessageType type,
+        LocalDateTime sentAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MessageReceiptResponse(
+        String clientMessageId,
+        Long roomId,
+        Long messageId,
+        LocalDateTime sentAt,
+        String errorCode
+) {
+    public static MessageReceiptResponse success(String clientMessageId, ChatMessageResponse message) {
+        return new MessageReceiptResponse(
+                clientMessageId, message.roomId(), message.messageId(), message.sentAt(), null);
+    }
+
+    public static MessageReceiptResponse failure(String clientMessageId, Long roomId, String errorCode) {
+        return new MessageReceiptResponse(clientMessageId, roomId, null, null, errorCode);
+    }
+}
@@ -0,0 +1,12 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Map;
+
+// { roomId: 마지막으로 받은 messageId } — 값이 null 이면 해당 채팅방은 reset
+public record MessageSyncRequest(
+        @NotNull @Size(max = 500) Map<Long, Long> lastSeenMessageIds
+) {
+}
@@ -0,0 +1,8 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import java.util.List;
+
+public record MessageSyncResponse(
+        List<RoomMessageSync> rooms
+) {
+}
@@ -0,0 +1,7 @@
+package com.toy.talktalk.domain.chat.dto;
+
+public record PresenceChange(
+        Long userId,
+        PresenceStatus status
+) {
+}
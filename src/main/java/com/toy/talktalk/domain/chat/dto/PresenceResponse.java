@@ -0,0 +1,10 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import java.util.List;
+
+// 채팅방 멤버들의 온라인 상태 변경 묶음 (tick 마다 채팅방당 1건)
+public record PresenceResponse(
+        Long roomId,
+        List<PresenceChange> changes
+) implements ChatEvent {
+}
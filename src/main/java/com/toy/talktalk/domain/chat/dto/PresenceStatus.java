@@ -0,0 +1,7 @@
+package com.toy.talktalk.domain.chat.dto;
+
+public enum PresenceStatus {
+    ONLINE,
+    IDLE,
+    OFFLINE
+}
@@ -0,0 +1,18 @@
+package com.toy.talktalk.domain.chat.dto;
+
+import java.util.List;
+
+// reset = true 면 놓친 메시지가 너무 많으므로 messages 없이 반환 → 클라이언트는 첫 페이지부터 다시 조회
+public record RoomMessageSync(
+        Long roomId,
+        List<ChatMessageResponse> messages,
+        boolean reset
+) {
+    public static RoomMessageSync of(Long roomId, List<ChatMessageResponse> messages) {
+        return new RoomMessageSync(roomId, messages, false);
+    }
+
+    public static RoomMessageSync ofReset(Long roomId) {
+        return new RoomMessageSync(roomId, List.of(), true);
+    }
+}
@@ -0,0 +1,8 @@
+package com.toy.talktalk.domain.chat.dto;
+
+// 저장하지 않는 휘발성 신호 종류
+public enum SignalType {
+    TYPING,
+    STOPPED_TYPING,
+    VIEWING
+}
@@ -1,5 +1,6 @@
 package com.toy.talktalk.domain.chat.entity;
 
+import com.toy.talktalk.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +18,7 @@ import java.util.List;
 public class ChatRoom {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String name;
@@ -30,6 +31,11 @@ public class ChatRoom {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // 채팅방 목록에서 members 컬렉션 로딩 없이 사용하는 비정규화 카운터 (입장/퇴장 시 원자적 UPDATE)
+    @Builder.Default
+    @Column(nullable = false)
+    private int memberCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ChatRoomMember> members = new ArrayList<>();
@@ -1,6 +1,7 @@
 package com.toy.talktalk.domain.chat.entity;
 
 import com.toy.talktalk.domain.user.entity.User;
+import com.toy.talktalk.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class ChatRoomMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
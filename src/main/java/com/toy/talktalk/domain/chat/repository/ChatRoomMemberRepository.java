@@ -1,10 +1,14 @@
 package com.toy.talktalk.domain.chat.repository;
 
+import com.toy.talktalk.domain.chat.dto.ChatRoomMemberRow;
 import com.toy.talktalk.domain.chat.entity.ChatRoom;
 import com.toy.talktalk.domain.chat.entity.ChatRoomMember;
 import com.toy.talktalk.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,15 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     Optional<ChatRoomMember> findByChatRoomAndUser(ChatRoom chatRoom, User user);
 
     List<ChatRoomMember> findAllByChatRoom(ChatRoom chatRoom);
+
+    @Query("SELECT m.user.id FROM ChatRoomMember m WHERE m.chatRoom.id = :roomId")
+    List<Long> findUserIdsByChatRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT m.chatRoom.id FROM ChatRoomMember m WHERE m.user.id = :userId")
+    List<Long> findChatRoomIdsByUserId(@Param("userId") Long userId);
+
+    // 배치 저장 시 여러 채팅방의 멤버 id / 닉네임을 한 번에 조회
+    @Query("SELECT new com.toy.talktalk.domain.chat.dto.ChatRoomMemberRow(m.chatRoom.id, u.id, u.nickname) "
+            + "FROM ChatRoomMember m JOIN m.user u WHERE m.chatRoom.id IN :roomIds")
+    List<ChatRoomMemberRow> findMemberRowsByChatRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -1,14 +1,28 @@
 package com.toy.talktalk.domain.chat.repository;
 
+import com.toy.talktalk.domain.chat.dto.ChatRoomSummary;
 import com.toy.talktalk.domain.chat.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
-    @Query("SELECT cr FROM ChatRoom cr JOIN cr.members m WHERE m.user.id = :userId")
-    List<ChatRoom> findAllByUserId(@Param("userId") Long userId);
+    // 채팅방 목록 — members 컬렉션 초기화 없이 SQL 1회로 조회
+    @Query("SELECT new com.toy.talktalk.domain.chat.dto.ChatRoomSummary(cr.id, cr.name, cr.type, cr.memberCount, cr.createdAt) "
+            + "FROM ChatRoomMember m JOIN m.chatRoom cr WHERE m.user.id = :userId ORDER BY cr.id DESC")
+    List<ChatRoomSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    // 주어진 id 중 존재하는 채팅방 id
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.id IN :roomIds")
+    List<Long> findExistingIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 동시 입장/퇴장에도 유실되지 않도록 DB 에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET cr.memberCount = cr.memberCount + :delta WHERE cr.id = :roomId")
+    int updateMemberCount(@Param("roomId") Long roomId, @Param("delta") int delta);
 }
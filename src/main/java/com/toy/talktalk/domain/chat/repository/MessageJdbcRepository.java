@@ -0,0 +1,69 @@
+package com.toy.talktalk.domain.chat.repository;
+
+import com.toy.talktalk.domain.chat.dto.MessageExportRow;
+import com.toy.talktalk.domain.chat.entity.Message;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageJdbcRepository {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO messages (id, chat_room_id, sender_id, content, type, sent_at, is_read) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_EXPORT_SQL =
+            "SELECT m.id, m.sender_id, u.nickname, m.content, m.type, m.sent_at FROM messages m "
+                    + "LEFT JOIN users u ON u.id = m.sender_id WHERE m.chat_room_id = ? ORDER BY m.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // id 가 미리 할당된 메시지들을 하나의 JDBC 배치 INSERT 로 저장
+    public void batchInsert(List<Message> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getChatRoom().getId());
+            if (message.getSender() != null) {
+                ps.setLong(3, message.getSender().getId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, message.getContent());
+            ps.setString(5, message.getType().name());
+            ps.setTimestamp(6, Timestamp.valueOf(message.getSentAt()));
+            ps.setBoolean(7, message.isRead());
+        });
+    }
+
+    // 전체 히스토리 내보내기 — forward-only 커서로 fetchSize 만큼씩 받아 한 행씩 전달 (결과를 메모리에 모으지 않음)
+    public void streamByRoomId(Long roomId, int fetchSize, Consumer<MessageExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    SELECT_EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, roomId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long senderId = rs.getLong(2);
+            boolean systemMessage = rs.wasNull();
+            consumer.accept(new MessageExportRow(
+                    rs.getLong(1),
+                    systemMessage ? null : senderId,
+                    rs.getString(3),
+                    rs.getString(4),
+                    MessageType.valueOf(rs.getString(5)),
+                    rs.getTimestamp(6).toLocalDateTime()
+            ));
+        });
+    }
+}
@@ -6,20 +6,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface MessageRepository extends JpaRepository<Message, Long> {
+public interface MessageRepository extends JpaRepository<Message, Long>, MessageRepositoryCustom {
 
-    // 커서 기반 페이지네이션 — cursor(messageId) 이전 메시지를 최신순으로 조회
-    @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :roomId AND m.id < :cursor ORDER BY m.id DESC")
-    List<Message> findByChatRoomIdBeforeCursor(
-            @Param("roomId") Long roomId,
-            @Param("cursor") Long cursor,
-            Pageable pageable);
-
-    // 첫 조회 (cursor 없을 때)
-    @Query("SELECT m FROM Message m WHERE m.chatRoom.id = :roomId ORDER BY m.id DESC")
-    List<Message> findByChatRoomIdOrderByIdDesc(
-            @Param("roomId") Long roomId,
+    // 히스토리 캐시 워밍업 대상 — since 이후 메시지가 많은 채팅방 순
+    @Query("SELECT m.chatRoom.id FROM Message m WHERE m.sentAt >= :since GROUP BY m.chatRoom.id ORDER BY COUNT(m) DESC")
+    List<Long> findMostActiveRoomIds(
+            @Param("since") LocalDateTime since,
             Pageable pageable);
 }
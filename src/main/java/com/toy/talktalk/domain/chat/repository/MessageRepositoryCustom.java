@@ -0,0 +1,12 @@
+package com.toy.talktalk.domain.chat.repository;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+
+import java.util.List;
+
+public interface MessageRepositoryCustom {
+
+    List<ChatMessageResponse> findHistory(Long roomId, Long cursor, int size);
+
+    List<ChatMessageResponse> findAfter(Long roomId, Long afterId, int size);
+}
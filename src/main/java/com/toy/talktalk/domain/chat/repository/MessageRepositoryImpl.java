@@ -0,0 +1,59 @@
+package com.toy.talktalk.domain.chat.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.toy.talktalk.domain.chat.entity.QMessage.message;
+import static com.toy.talktalk.domain.user.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class MessageRepositoryImpl implements MessageRepositoryCustom {
+
+    private static final ConstructorExpression<ChatMessageResponse> MESSAGE_RESPONSE = Projections.constructor(
+            ChatMessageResponse.class,
+            message.id,
+            message.chatRoom.id,
+            user.id,
+            user.nickname,
+            message.content,
+            message.type,
+            message.sentAt);
+
+    private final JPAQueryFactory queryFactory;
+
+    // 커서 기반 페이지네이션 — 엔티티 로딩 없이 DTO 로 바로 조회 (users LEFT JOIN 1회, idx_messages_room_id 사용)
+    @Override
+    public List<ChatMessageResponse> findHistory(Long roomId, Long cursor, int size) {
+        return queryFactory
+                .select(MESSAGE_RESPONSE)
+                .from(message)
+                .leftJoin(message.sender, user)
+                .where(message.chatRoom.id.eq(roomId), beforeCursor(cursor))
+                .orderBy(message.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 재연결 동기화 — afterId 이후 메시지를 오래된 순으로 size 개 (idx_messages_room_id 범위 스캔 1회)
+    @Override
+    public List<ChatMessageResponse> findAfter(Long roomId, Long afterId, int size) {
+        return queryFactory
+                .select(MESSAGE_RESPONSE)
+                .from(message)
+                .leftJoin(message.sender, user)
+                .where(message.chatRoom.id.eq(roomId), message.id.gt(afterId))
+                .orderBy(message.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression beforeCursor(Long cursor) {
+        return cursor == null ? null : message.id.lt(cursor);
+    }
+}
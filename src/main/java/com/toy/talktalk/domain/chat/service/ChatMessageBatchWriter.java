@@ -0,0 +1,188 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.global.exception.BusinessException;
+import com.toy.talktalk.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 그룹 커밋 모드: 발신 요청을 큐에 모아 batchSize 개 또는 flushIntervalMs 마다 한 트랜잭션으로 저장
+// 단일 flush 스레드가 큐 순서대로 처리하므로 채팅방 내 메시지 순서가 유지된다
+// receipt 완료(→ Redis 발행 / STOMP receipt 콜백)는 단일 완료 스레드로 넘겨 flush 스레드가 I/O 에 묶이지 않게 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private final ChatMessageService chatMessageService;
+
+    @Value("${chat.message.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.message.group-commit.batch-size:100}")
+    private int batchSize;
+
+    @Value("${chat.message.group-commit.flush-interval-ms:10}")
+    private long flushIntervalMs;
+
+    @Value("${chat.message.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.message.group-commit.receipt-queue-capacity:1000}")
+    private int receiptQueueCapacity;
+
+    private BlockingQueue<PendingChatMessage> queue;
+    private ThreadPoolExecutor receiptExecutor;
+    private Thread flushThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        // 완료 스레드 1개 — 배치 순서대로 콜백 실행 (채팅방 내 발행 순서 유지)
+        // 큐가 가득 차면 flush 스레드가 빈자리를 기다림 (receipt 대기 메모리 상한 + 저장 속도 조절)
+        receiptExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(receiptQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-message-receipt");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        task.run();
+                        return;
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        task.run();
+                    }
+                });
+        running = true;
+        flushThread = new Thread(this::runFlushLoop, "chat-message-batch-writer");
+        flushThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flushThread == null) {
+            return;
+        }
+        running = false;
+        flushThread.join(TimeUnit.SECONDS.toMillis(10));
+        receiptExecutor.shutdown();
+        receiptExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 배치 커밋이 완료되면 저장된 메시지로 완료되는 future 반환
+    public CompletableFuture<ChatMessageResponse> submit(Long senderId, ChatMessageRequest request) {
+        CompletableFuture<ChatMessageResponse> receipt = new CompletableFuture<>();
+        PendingChatMessage pending = new PendingChatMessage(new ChatMessageCommand(senderId, request), receipt);
+        if (!running || !queue.offer(pending)) {
+            receipt.completeExceptionally(new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL));
+            return receipt;
+        }
+        // offer 직전에 stop() 이 끼어들어 flush 루프가 이미 마지막 drain 을 끝냈을 수 있음
+        // — 큐에서 직접 회수해 완료 (flush 루프가 먼저 가져갔다면 remove 가 false)
+        if (!running && queue.remove(pending)) {
+            receipt.completeExceptionally(new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL));
+        }
+        return receipt;
+    }
+
+    private void runFlushLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectUntilFullOrDeadline(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        receiptExecutor.execute(() -> remaining.forEach(pending -> pending.receipt()
+                .completeExceptionally(new BusinessException(ErrorCode.MESSAGE_QUEUE_FULL))));
+    }
+
+    private void collectUntilFullOrDeadline(List<PendingChatMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                return;
+            }
+            PendingChatMessage next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 커밋 이후에 receipt 를 완료해야 하므로 트랜잭션 메서드 호출이 끝난 뒤 결과를 전달
+    private void flush(List<PendingChatMessage> batch) {
+        List<ChatMessageWriteResult> results;
+        List<PendingChatMessage> pendings = List.copyOf(batch);
+        try {
+            results = chatMessageService.saveMessages(pendings.stream().map(PendingChatMessage::command).toList());
+        } catch (Exception e) {
+            log.error("메시지 배치 저장 실패: size={}", pendings.size(), e);
+            receiptExecutor.execute(() -> pendings.forEach(pending -> pending.receipt().completeExceptionally(e)));
+            return;
+        }
+
+        receiptExecutor.execute(() -> completeReceipts(pendings, results));
+    }
+
+    // 완료 스레드에서 실행 — 콜백 예외가 나머지 receipt 완료를 막지 않도록 CompletableFuture 가 격리
+    private void completeReceipts(List<PendingChatMessage> pendings, List<ChatMessageWriteResult> results) {
+        for (int i = 0; i < pendings.size(); i++) {
+            ChatMessageWriteResult result = results.get(i);
+            if (result.isSuccess()) {
+                pendings.get(i).receipt().complete(result.response());
+            } else {
+                pendings.get(i).receipt().completeExceptionally(new BusinessException(result.errorCode()));
+            }
+        }
+    }
+
+    private record PendingChatMessage(
+            ChatMessageCommand command,
+            CompletableFuture<ChatMessageResponse> receipt
+    ) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
+
+public record ChatMessageCommand(
+        Long senderId,
+        ChatMessageRequest request
+) {
+}
@@ -0,0 +1,9 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+
+import java.util.List;
+
+// 메시지 저장 커밋 후 히스토리 캐시 append 용
+public record ChatMessageSavedEvent(List<ChatMessageResponse> messages) {
+}
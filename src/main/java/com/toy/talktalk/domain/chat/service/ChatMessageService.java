@@ -2,26 +2,40 @@ package com.toy.talktalk.domain.chat.service;
 
 import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
 import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatRoomMemberRow;
 import com.toy.talktalk.domain.chat.dto.MessagePageResponse;
+import com.toy.talktalk.domain.chat.dto.MessageSyncResponse;
+import com.toy.talktalk.domain.chat.dto.RoomMessageSync;
 import com.toy.talktalk.domain.chat.entity.ChatRoom;
 import com.toy.talktalk.domain.chat.entity.Message;
 import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
 import com.toy.talktalk.domain.chat.repository.ChatRoomRepository;
+import com.toy.talktalk.domain.chat.repository.MessageJdbcRepository;
 import com.toy.talktalk.domain.chat.repository.MessageRepository;
 import com.toy.talktalk.domain.user.entity.User;
 import com.toy.talktalk.domain.user.repository.UserRepository;
 import com.toy.talktalk.global.exception.BusinessException;
 import com.toy.talktalk.global.exception.ErrorCode;
+import com.toy.talktalk.global.id.IdGenerator;
 import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
 import com.toy.talktalk.global.redis.RedisChatPublisher;
-import com.toy.talktalk.global.redis.RedisSubscriptionManager;
 import com.toy.talktalk.global.redis.UnreadCountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,27 +43,29 @@ import java.util.List;
 public class ChatMessageService {
 
     private final MessageRepository messageRepository;
+    private final MessageJdbcRepository messageJdbcRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final UserRepository userRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
     private final UnreadCountService unreadCountService;
+    private final IdGenerator idGenerator;
     private final RedisChatPublisher redisChatPublisher;
-    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final MessageHistoryCache messageHistoryCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat.sync.max-messages-per-room:100}")
+    private int maxSyncMessagesPerRoom;
 
     @Transactional
     public ChatMessageResponse saveMessage(Long senderId, ChatMessageRequest request) {
-        ChatRoom chatRoom = chatRoomRepository.findById(request.roomId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        validateRoomMember(request.roomId(), senderId);
 
         User sender = userRepository.findById(senderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!chatRoomMemberRepository.existsByChatRoomAndUser(chatRoom, sender)) {
-            throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
-        }
-
         Message message = Message.builder()
-                .chatRoom(chatRoom)
+                .chatRoom(chatRoomRepository.getReferenceById(request.roomId()))
                 .sender(sender)
                 .content(request.content())
                 .type(request.type())
@@ -57,50 +73,145 @@ public class ChatMessageService {
 
         ChatMessageResponse response = ChatMessageResponse.from(messageRepository.save(message));
 
-        List<Long> memberIds = chatRoomMemberRepository.findAllByChatRoom(chatRoom).stream()
-                .map(member -> member.getUser().getId())
-                .toList();
-        unreadCountService.incrementUnread(request.roomId(), senderId, memberIds);
+        unreadCountService.incrementUnread(
+                request.roomId(), senderId, chatRoomMembershipCache.getMemberIds(request.roomId()));
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(List.of(response)));
 
         return response;
     }
 
-    public MessagePageResponse getMessages(Long userId, Long roomId, Long cursor, int limit) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    // 그룹 커밋 — 여러 발신 요청을 하나의 트랜잭션 + 배치 INSERT 로 저장, 결과는 입력 순서와 동일
+    @Transactional
+    public List<ChatMessageWriteResult> saveMessages(List<ChatMessageCommand> commands) {
+        Set<Long> roomIds = commands.stream()
+                .map(command -> command.request().roomId())
+                .collect(Collectors.toSet());
+
+        Map<Long, Map<Long, String>> membersByRoom = new HashMap<>();
+        for (ChatRoomMemberRow row : chatRoomMemberRepository.findMemberRowsByChatRoomIds(roomIds)) {
+            membersByRoom.computeIfAbsent(row.roomId(), roomId -> new HashMap<>())
+                    .put(row.userId(), row.nickname());
+        }
+        Set<Long> missingRoomIds = findMissingRoomIds(roomIds, membersByRoom.keySet());
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        ChatMessageWriteResult[] results = new ChatMessageWriteResult[commands.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Message> messages = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            ChatMessageCommand command = commands.get(i);
+            Map<Long, String> members = membersByRoom.getOrDefault(command.request().roomId(), Map.of());
+            if (!members.containsKey(command.senderId())) {
+                results[i] = ChatMessageWriteResult.failure(missingRoomIds.contains(command.request().roomId())
+                        ? ErrorCode.CHAT_ROOM_NOT_FOUND
+                        : ErrorCode.NOT_ROOM_MEMBER);
+                continue;
+            }
+
+            messages.add(Message.builder()
+                    .id(idGenerator.nextId())
+                    .chatRoom(chatRoomRepository.getReferenceById(command.request().roomId()))
+                    .sender(userRepository.getReferenceById(command.senderId()))
+                    .content(command.request().content())
+                    .type(command.request().type())
+                    .sentAt(sentAt)
+                    .build());
+            acceptedIndexes.add(i);
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (messages.isEmpty()) {
+            return List.of(results);
+        }
 
-        if (!chatRoomMemberRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
+        messageJdbcRepository.batchInsert(messages);
+
+        Map<Long, Map<Long, Long>> messageCountBySenderByRoom = new HashMap<>();
+        for (int j = 0; j < acceptedIndexes.size(); j++) {
+            int index = acceptedIndexes.get(j);
+            ChatMessageCommand command = commands.get(index);
+            Long roomId = command.request().roomId();
+            Map<Long, String> members = membersByRoom.get(roomId);
+
+            results[index] = ChatMessageWriteResult.success(new ChatMessageResponse(
+                    messages.get(j).getId(),
+                    roomId,
+                    command.senderId(),
+                    members.get(command.senderId()),
+                    command.request().content(),
+                    command.request().type(),
+                    sentAt
+            ));
+            messageCountBySenderByRoom.computeIfAbsent(roomId, id -> new HashMap<>())
+                    .merge(command.senderId(), 1L, Long::sum);
         }
 
-        PageRequest pageRequest = PageRequest.of(0, limit + 1);
-        List<ChatMessageResponse> messages = (cursor == null
-                ? messageRepository.findByChatRoomIdOrderByIdDesc(roomId, pageRequest)
-                : messageRepository.findByChatRoomIdBeforeCursor(roomId, cursor, pageRequest))
-                .stream()
-                .map(ChatMessageResponse::from)
-                .toList();
+        messageCountBySenderByRoom.forEach((roomId, messageCountBySender) -> unreadCountService.incrementUnread(
+                roomId,
+                messageCountBySender,
+                membersByRoom.get(roomId).keySet().stream().mapToLong(Long::longValue).toArray()));
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(acceptedIndexes.stream()
+                .map(index -> results[index].response())
+                .toList()));
+
+        return List.of(results);
+    }
+
+    public MessagePageResponse getMessages(Long userId, Long roomId, Long cursor, int limit) {
+        validateRoomMember(roomId, userId);
+
+        List<ChatMessageResponse> messages = messageHistoryCache.find(roomId, cursor, limit + 1)
+                .orElseGet(() -> loadMessages(roomId, cursor, limit + 1));
 
         return MessagePageResponse.of(messages, limit);
     }
 
-    public void markAsRead(Long userId, Long roomId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    // 재연결 동기화 — 채팅방별 lastSeen 이후 메시지만 반환, 멤버가 아닌 채팅방은 제외
+    public MessageSyncResponse syncMessages(Long userId, Map<Long, Long> lastSeenMessageIds) {
+        List<RoomMessageSync> rooms = new ArrayList<>(lastSeenMessageIds.size());
+        lastSeenMessageIds.forEach((roomId, lastSeenId) -> {
+            if (!chatRoomMembershipCache.isMember(roomId, userId)) {
+                return;
+            }
+            if (lastSeenId == null) {
+                rooms.add(RoomMessageSync.ofReset(roomId));
+                return;
+            }
+
+            List<ChatMessageResponse> messages =
+                    messageRepository.findAfter(roomId, lastSeenId, maxSyncMessagesPerRoom + 1);
+            rooms.add(messages.size() > maxSyncMessagesPerRoom
+                    ? RoomMessageSync.ofReset(roomId)
+                    : RoomMessageSync.of(roomId, messages));
+        });
+        return new MessageSyncResponse(rooms);
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 최근 메시지가 많은 채팅방 순으로 히스토리 캐시를 미리 채움, 채운 채팅방 수 반환
+    public int warmUpHistoryCache(int roomCount, Duration activeWindow) {
+        List<Long> roomIds = messageRepository.findMostActiveRoomIds(
+                LocalDateTime.now().minus(activeWindow), PageRequest.of(0, roomCount));
+        for (Long roomId : roomIds) {
+            loadMessages(roomId, null, messageHistoryCache.getCapacity());
+        }
+        return roomIds.size();
+    }
 
-        if (!chatRoomMemberRepository.existsByChatRoomAndUser(chatRoom, user)) {
-            throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
+    // DB 조회 — 첫 페이지는 히스토리 캐시를 다시 채움
+    private List<ChatMessageResponse> loadMessages(Long roomId, Long cursor, int size) {
+        List<ChatMessageResponse> messages = messageRepository.findHistory(roomId, cursor, size);
+
+        if (cursor == null) {
+            messageHistoryCache.fill(roomId, messages, messages.size() < size);
         }
+        return messages;
+    }
+
+    public void markAsRead(Long userId, Long roomId) {
+        validateRoomMember(roomId, userId);
 
         unreadCountService.resetUnread(roomId, userId);
 
-        redisSubscriptionManager.subscribeRoom(roomId);
         redisChatPublisher.publish(roomId, ReadAckResponse.of(roomId, userId));
     }
 
@@ -110,6 +221,30 @@ public class ChatMessageService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
         Message message = Message.ofSystem(chatRoom, content);
-        return ChatMessageResponse.from(messageRepository.save(message));
+        ChatMessageResponse response = ChatMessageResponse.from(messageRepository.save(message));
+        eventPublisher.publishEvent(new ChatMessageSavedEvent(List.of(response)));
+        return response;
+    }
+
+    // 멤버십은 캐시로 확인하고, 실패한 경우에만 채팅방 존재 여부를 DB 로 구분
+    // 멤버 행이 하나도 없는 채팅방만 존재 여부 확인 — 대부분의 배치는 추가 쿼리 없음
+    private Set<Long> findMissingRoomIds(Set<Long> roomIds, Set<Long> roomIdsWithMembers) {
+        Set<Long> candidates = new HashSet<>(roomIds);
+        candidates.removeAll(roomIdsWithMembers);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        chatRoomRepository.findExistingIds(candidates).forEach(candidates::remove);
+        return candidates;
+    }
+
+    public void validateRoomMember(Long roomId, Long userId) {
+        if (chatRoomMembershipCache.isMember(roomId, userId)) {
+            return;
+        }
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        throw new BusinessException(ErrorCode.NOT_ROOM_MEMBER);
     }
 }
@@ -0,0 +1,21 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.global.exception.ErrorCode;
+
+public record ChatMessageWriteResult(
+        ChatMessageResponse response,
+        ErrorCode errorCode
+) {
+    public static ChatMessageWriteResult success(ChatMessageResponse response) {
+        return new ChatMessageWriteResult(response, null);
+    }
+
+    public static ChatMessageWriteResult failure(ErrorCode errorCode) {
+        return new ChatMessageWriteResult(null, errorCode);
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
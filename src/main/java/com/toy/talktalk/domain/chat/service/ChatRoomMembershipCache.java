@@ -0,0 +1,153 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 채팅방 멤버 id 캐시 — 로컬(정렬된 long[]) → Redis Set → DB 순으로 조회
+// 멤버 변경 커밋 후 세대 증가 + Redis 키 삭제 + Pub/Sub 으로 모든 노드의 로컬 캐시 무효화
+// DB 조회 도중 무효화가 끼어들면 조회 결과로 Redis / 로컬 캐시를 다시 채우지 않음 (오래된 멤버 재설치 방지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipCache implements MessageListener {
+
+    private static final String MEMBERS_KEY_PREFIX = "room:members:";
+    private static final String GENERATION_KEY_PREFIX = "room:members:gen:";
+    private static final String INVALIDATION_CHANNEL = "chat:membership:invalidate";
+    private static final RedisScript<Long> LOAD_MEMBERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/load_room_members.lua"), Long.class);
+
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${chat.membership-cache.local-ttl-ms:60000}")
+    private long localTtlMillis;
+
+    @Value("${chat.membership-cache.local-max-rooms:10000}")
+    private int localMaxRooms;
+
+    @Value("${chat.membership-cache.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    private final Map<Long, CachedMembers> localCache = new ConcurrentHashMap<>();
+    // 로컬 무효화 횟수 — 조회 중 무효화가 있었으면 로컬에 넣지 않음
+    private final AtomicLong localInvalidations = new AtomicLong();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public boolean isMember(Long roomId, Long userId) {
+        return Arrays.binarySearch(getMemberIds(roomId), userId) >= 0;
+    }
+
+    // 반환 배열은 공유되므로 수정 금지
+    public long[] getMemberIds(Long roomId) {
+        long now = System.currentTimeMillis();
+        CachedMembers cached = localCache.get(roomId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.memberIds();
+        }
+
+        long invalidations = localInvalidations.get();
+        long[] memberIds = loadMemberIds(roomId);
+        if (localInvalidations.get() != invalidations) {
+            return memberIds;
+        }
+        if (localCache.size() >= localMaxRooms) {
+            evictOneLocalEntry();
+        }
+        localCache.put(roomId, new CachedMembers(memberIds, now + localTtlMillis));
+        return memberIds;
+    }
+
+    public void evict(Long roomId) {
+        invalidateLocal(roomId);
+        // 세대 증가가 삭제보다 먼저 — 진행 중인 조회가 삭제 뒤에 오래된 멤버를 다시 채우지 못하도록
+        String generationKey = GENERATION_KEY_PREFIX + roomId;
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, Duration.ofSeconds(redisTtlSeconds * 2));
+        redisTemplate.delete(MEMBERS_KEY_PREFIX + roomId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(roomId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        evict(event.roomId());
+    }
+
+    // 다른 노드에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidateLocal(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 멤버 캐시 무효화 메시지: {}", e.getMessage());
+        }
+    }
+
+    private long[] loadMemberIds(Long roomId) {
+        String key = MEMBERS_KEY_PREFIX + roomId;
+        Set<String> cachedIds = redisTemplate.opsForSet().members(key);
+        if (cachedIds != null && !cachedIds.isEmpty()) {
+            return cachedIds.stream().mapToLong(Long::parseLong).sorted().toArray();
+        }
+
+        String generationKey = GENERATION_KEY_PREFIX + roomId;
+        String generation = redisTemplate.opsForValue().get(generationKey);
+        long[] memberIds = chatRoomMemberRepository.findUserIdsByChatRoomId(roomId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        if (memberIds.length > 0) {
+            List<String> args = new ArrayList<>(memberIds.length + 2);
+            args.add(generation != null ? generation : "0");
+            args.add(String.valueOf(redisTtlSeconds));
+            Arrays.stream(memberIds).mapToObj(String::valueOf).forEach(args::add);
+            redisTemplate.execute(LOAD_MEMBERS_SCRIPT, List.of(key, generationKey), args.toArray());
+        }
+        return memberIds;
+    }
+
+    private void invalidateLocal(Long roomId) {
+        localInvalidations.incrementAndGet();
+        localCache.remove(roomId);
+    }
+
+    private void evictOneLocalEntry() {
+        Iterator<Long> iterator = localCache.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedMembers(long[] memberIds, long expiresAt) {
+    }
+}
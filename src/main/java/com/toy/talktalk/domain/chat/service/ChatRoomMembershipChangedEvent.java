@@ -0,0 +1,6 @@
+package com.toy.talktalk.domain.chat.service;
+
+public record ChatRoomMembershipChangedEvent(
+        Long roomId
+) {
+}
@@ -1,6 +1,7 @@
 package com.toy.talktalk.domain.chat.service;
 
 import com.toy.talktalk.domain.chat.dto.ChatRoomResponse;
+import com.toy.talktalk.domain.chat.dto.ChatRoomSummary;
 import com.toy.talktalk.domain.chat.dto.CreateChatRoomRequest;
 import com.toy.talktalk.domain.chat.entity.ChatRoom;
 import com.toy.talktalk.domain.chat.entity.ChatRoomMember;
@@ -13,10 +14,15 @@ import com.toy.talktalk.global.exception.BusinessException;
 import com.toy.talktalk.global.exception.ErrorCode;
 import com.toy.talktalk.global.redis.UnreadCountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
@@ -27,24 +33,34 @@ public class ChatRoomService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final UserRepository userRepository;
     private final UnreadCountService unreadCountService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // true: unread:user:{userId} 인덱스에서 HGETALL 1회로 조회 (backfill 완료 후 활성화)
+    @Value("${chat.unread.read-user-index:false}")
+    private boolean readUserUnreadIndex;
 
     @Transactional
     public ChatRoomResponse createChatRoom(Long creatorId, CreateChatRoomRequest request) {
-        validateCreateRequest(request);
+        // 중복 초대 / 자기 자신 초대는 제외 — memberCount 는 실제로 추가되는 멤버 수와 같아야 함
+        Set<Long> inviteeIds = new LinkedHashSet<>(request.inviteeIds());
+        inviteeIds.remove(creatorId);
+        validateCreateRequest(request, inviteeIds);
 
         User creator = findUserById(creatorId);
 
         ChatRoom chatRoom = ChatRoom.builder()
                 .name(request.name())
                 .type(request.type())
+                .memberCount(1 + inviteeIds.size())
                 .build();
         chatRoomRepository.save(chatRoom);
 
         addMember(chatRoom, creator);
-        for (Long inviteeId : request.inviteeIds()) {
+        for (Long inviteeId : inviteeIds) {
             User invitee = findUserById(inviteeId);
             addMember(chatRoom, invitee);
         }
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(chatRoom.getId()));
 
         return ChatRoomResponse.from(chatRoom);
     }
@@ -59,6 +75,9 @@ public class ChatRoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_ROOM_MEMBER));
 
         chatRoomMemberRepository.delete(member);
+        chatRoomRepository.updateMemberCount(roomId, -1);
+        unreadCountService.resetUnread(roomId, userId);
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(roomId));
     }
 
     @Transactional
@@ -78,6 +97,8 @@ public class ChatRoomService {
         }
 
         addMember(chatRoom, invitee);
+        chatRoomRepository.updateMemberCount(roomId, 1);
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(roomId));
     }
 
     public ChatRoomResponse getChatRoom(Long userId, Long roomId) {
@@ -94,19 +115,30 @@ public class ChatRoomService {
     }
 
     public List<ChatRoomResponse> getMyChatRooms(Long userId) {
-        return chatRoomRepository.findAllByUserId(userId).stream()
-                .map(room -> ChatRoomResponse.from(room, unreadCountService.getUnreadCount(room.getId(), userId)))
+        List<ChatRoomSummary> chatRooms = chatRoomRepository.findSummariesByUserId(userId);
+        if (!readUserUnreadIndex) {
+            return chatRooms.stream()
+                    .map(room -> ChatRoomResponse.from(room, unreadCountService.getUnreadCount(room.id(), userId)))
+                    .toList();
+        }
+
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(userId);
+        return chatRooms.stream()
+                .map(room -> ChatRoomResponse.from(room, unreadCounts.getOrDefault(room.id(), 0L)))
                 .toList();
     }
 
-    private void validateCreateRequest(CreateChatRoomRequest request) {
+    private void validateCreateRequest(CreateChatRoomRequest request, Set<Long> inviteeIds) {
+        if (inviteeIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
         if (request.type() == ChatRoomType.GROUP) {
             if (request.name() == null || request.name().isBlank()) {
                 throw new BusinessException(ErrorCode.INVALID_INPUT);
             }
         }
         if (request.type() == ChatRoomType.DIRECT) {
-            if (request.inviteeIds().size() != 1) {
+            if (inviteeIds.size() != 1) {
                 throw new BusinessException(ErrorCode.INVALID_INPUT);
             }
         }
@@ -118,7 +150,6 @@ public class ChatRoomService {
                 .user(user)
                 .build();
         chatRoomMemberRepository.save(member);
-        chatRoom.getMembers().add(member);
     }
 
     private User findUserById(Long userId) {
@@ -0,0 +1,273 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatSignalRequest;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.global.redis.RedisChatPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 입력 중 / 입력 멈춤 / 보는 중 같은 휘발성 신호 — DB 저장 없이 채팅방 / 발신자 단위로 모아 window 마다 한 번 발행
+// window 안의 신호는 마지막 상태 하나로 합치고, 같은 상태는 repeat-interval 안에서 다시 보내지 않음
+// 발신자별 초당 max-per-second 를 넘는 신호는 버림
+// 수신 경로는 채팅방별 슬롯 배열 갱신만 (할당 없음) — 이벤트 객체는 flush 스레드에서 발행할 때만 생성
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSignalCoalescer {
+
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final RedisChatPublisher redisChatPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.signal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.signal.window-ms:250}")
+    private long windowMillis;
+
+    @Value("${chat.signal.repeat-interval-ms:3000}")
+    private long repeatIntervalMillis;
+
+    @Value("${chat.signal.max-per-second:10}")
+    private int maxPerSecond;
+
+    @Value("${chat.signal.idle-evict-ms:30000}")
+    private long idleEvictMillis;
+
+    private final Map<Long, RoomSignals> rooms = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+    private Counter receivedCounter;
+    private Counter coalescedCounter;
+    private Counter emittedCounter;
+    private Counter rateLimitedCounter;
+    private Counter notMemberCounter;
+
+    @PostConstruct
+    void start() {
+        receivedCounter = meterRegistry.counter("chat.signal.received");
+        coalescedCounter = meterRegistry.counter("chat.signal.coalesced");
+        emittedCounter = meterRegistry.counter("chat.signal.emitted");
+        rateLimitedCounter = meterRegistry.counter("chat.signal.dropped", "reason", "rate");
+        notMemberCounter = meterRegistry.counter("chat.signal.dropped", "reason", "not-member");
+        meterRegistry.gauge("chat.signal.rooms", rooms, Map::size);
+        if (!enabled) {
+            return;
+        }
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-signal-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    public void submit(Long userId, ChatSignalRequest request) {
+        if (!enabled || request.roomId() == null || request.type() == null) {
+            return;
+        }
+        receivedCounter.increment();
+        if (!chatRoomMembershipCache.isMember(request.roomId(), userId)) {
+            notMemberCounter.increment();
+            return;
+        }
+        long now = System.nanoTime();
+        Offer result;
+        // flush 스레드가 비어 있는 채팅방을 막 제거한 경우 새로 만들어 재시도
+        do {
+            result = rooms.computeIfAbsent(request.roomId(), RoomSignals::new)
+                    .offer(userId, request.type(), now, maxPerSecond);
+        } while (result == Offer.RETIRED);
+
+        if (result == Offer.RATE_LIMITED) {
+            rateLimitedCounter.increment();
+        } else if (result == Offer.COALESCED) {
+            coalescedCounter.increment();
+        }
+    }
+
+    void flush() {
+        long now = System.nanoTime();
+        long repeatNanos = TimeUnit.MILLISECONDS.toNanos(repeatIntervalMillis);
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+        Iterator<RoomSignals> iterator = rooms.values().iterator();
+        while (iterator.hasNext()) {
+            RoomSignals room = iterator.next();
+            if (room.drain(now, repeatNanos, idleNanos, this::emit)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("휘발성 신호 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void emit(Long roomId, long userId, SignalType type) {
+        emittedCounter.increment();
+        redisChatPublisher.publishSignal(roomId, new ChatSignalResponse(roomId, userId, type));
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    enum Offer {
+        ACCEPTED,
+        COALESCED,
+        RATE_LIMITED,
+        RETIRED
+    }
+
+    @FunctionalInterface
+    interface SignalSink {
+        void emit(Long roomId, long userId, SignalType type);
+    }
+
+    // 채팅방의 발신자 슬롯 — 동시에 입력하는 사람은 소수이므로 선형 탐색, 배열은 부족할 때만 확장
+    static final class RoomSignals {
+
+        private final Long roomId;
+        private long[] userIds = new long[4];
+        private SignalType[] pending = new SignalType[4];
+        private SignalType[] lastEmitted = new SignalType[4];
+        private long[] lastEmittedAt = new long[4];
+        private long[] lastSeenAt = new long[4];
+        private long[] rateWindowStartedAt = new long[4];
+        private int[] rateCounts = new int[4];
+        private int size;
+        private boolean retired;
+
+        RoomSignals(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        synchronized Offer offer(long userId, SignalType type, long now, int maxPerSecond) {
+            if (retired) {
+                return Offer.RETIRED;
+            }
+            int slot = slotOf(userId);
+            if (slot < 0) {
+                slot = addSlot(userId, now);
+            }
+            if (now - rateWindowStartedAt[slot] >= TimeUnit.SECONDS.toNanos(1)) {
+                rateWindowStartedAt[slot] = now;
+                rateCounts[slot] = 0;
+            }
+            if (rateCounts[slot] >= maxPerSecond) {
+                return Offer.RATE_LIMITED;
+            }
+            rateCounts[slot]++;
+            lastSeenAt[slot] = now;
+            boolean coalesced = pending[slot] != null;
+            pending[slot] = type;
+            return coalesced ? Offer.COALESCED : Offer.ACCEPTED;
+        }
+
+        // 대기 중인 신호를 발행하고 오래 조용한 발신자 슬롯 정리 — 슬롯이 모두 비면 retire 후 true
+        boolean drain(long now, long repeatNanos, long idleNanos, SignalSink sink) {
+            int emitCount = 0;
+            long[] emitUserIds;
+            SignalType[] emitTypes;
+            synchronized (this) {
+                emitUserIds = new long[size];
+                emitTypes = new SignalType[size];
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    SignalType type = pending[i];
+                    if (type != null) {
+                        pending[i] = null;
+                        if (type != lastEmitted[i] || now - lastEmittedAt[i] >= repeatNanos) {
+                            lastEmitted[i] = type;
+                            lastEmittedAt[i] = now;
+                            emitUserIds[emitCount] = userIds[i];
+                            emitTypes[emitCount++] = type;
+                        }
+                    }
+                    if (now - lastSeenAt[i] < idleNanos) {
+                        moveSlot(i, kept++);
+                    }
+                }
+                Arrays.fill(pending, kept, size, null);
+                Arrays.fill(lastEmitted, kept, size, null);
+                size = kept;
+                retired = size == 0;
+            }
+            // 발행(Redis / STOMP 전송)은 락 밖에서
+            for (int i = 0; i < emitCount; i++) {
+                sink.emit(roomId, emitUserIds[i], emitTypes[i]);
+            }
+            return retired;
+        }
+
+        private int slotOf(long userId) {
+            for (int i = 0; i < size; i++) {
+                if (userIds[i] == userId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int addSlot(long userId, long now) {
+            if (size == userIds.length) {
+                int capacity = size * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                pending = Arrays.copyOf(pending, capacity);
+                lastEmitted = Arrays.copyOf(lastEmitted, capacity);
+                lastEmittedAt = Arrays.copyOf(lastEmittedAt, capacity);
+                lastSeenAt = Arrays.copyOf(lastSeenAt, capacity);
+                rateWindowStartedAt = Arrays.copyOf(rateWindowStartedAt, capacity);
+                rateCounts = Arrays.copyOf(rateCounts, capacity);
+            }
+            int slot = size++;
+            userIds[slot] = userId;
+            pending[slot] = null;
+            lastEmitted[slot] = null;
+            lastEmittedAt[slot] = 0;
+            lastSeenAt[slot] = now;
+            rateWindowStartedAt[slot] = now;
+            rateCounts[slot] = 0;
+            return slot;
+        }
+
+        private void moveSlot(int from, int to) {
+            if (from == to) {
+                return;
+            }
+            userIds[to] = userIds[from];
+            pending[to] = pending[from];
+            lastEmitted[to] = lastEmitted[from];
+            lastEmittedAt[to] = lastEmittedAt[from];
+            lastSeenAt[to] = lastSeenAt[from];
+            rateWindowStartedAt[to] = rateWindowStartedAt[from];
+            rateCounts[to] = rateCounts[from];
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.talktalk.domain.chat.dto.MessageExportRow;
+import com.toy.talktalk.domain.chat.repository.MessageJdbcRepository;
+import com.toy.talktalk.global.exception.BusinessException;
+import com.toy.talktalk.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+// 채팅방 전체 히스토리 내보내기 — JDBC 커서에서 읽은 행을 바로 응답 스트림에 기록 (메모리 사용량 일정)
+// 동시 실행 max-concurrent + 대기 queue-capacity 까지만 받음 — 초과 시 요청 스레드에서 바로 EXPORT_BUSY
+// (MVC 전역 비동기 실행기는 건드리지 않음 — 다른 비동기 요청은 영향 없음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "messageId,senderId,senderNickname,content,type,sentAt\n";
+
+    private final ChatMessageService chatMessageService;
+    private final MessageJdbcRepository messageJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${chat.export.max-concurrent:2}")
+    private int maxConcurrentExports;
+
+    @Value("${chat.export.queue-capacity:4}")
+    private int exportQueueCapacity;
+
+    private Semaphore admitted;
+    private Semaphore running;
+
+    @PostConstruct
+    void initLimits() {
+        admitted = new Semaphore(maxConcurrentExports + exportQueueCapacity);
+        running = new Semaphore(maxConcurrentExports, true);
+    }
+
+    // 멤버 확인 / 수용 여부는 요청 스레드에서 먼저 수행 — 실패 시 스트리밍 시작 전에 에러 응답
+    // onStreamStart 는 첫 바이트를 쓰기 직전에 호출 (Content-Encoding 등 성공 응답 전용 헤더 설정)
+    public StreamingResponseBody export(Long userId, Long roomId, MessageExportFormat format, boolean gzip,
+                                        Runnable onStreamStart) {
+        chatMessageService.validateRoomMember(roomId, userId);
+        if (!admitted.tryAcquire()) {
+            throw new BusinessException(ErrorCode.EXPORT_BUSY);
+        }
+        return outputStream -> {
+            try {
+                running.acquire();
+                try {
+                    write(roomId, format, gzip, outputStream, onStreamStart);
+                } finally {
+                    running.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("내보내기 대기 중 중단", e);
+            } finally {
+                admitted.release();
+            }
+        };
+    }
+
+    // 커서를 연 뒤 첫 행(없으면 끝)에서 스트림 시작 — DB 오류는 아무것도 쓰기 전에 발생하므로 일반 에러 응답 가능
+    void write(Long roomId, MessageExportFormat format, boolean gzip, OutputStream outputStream,
+               Runnable onStreamStart) throws IOException {
+        ExportStream stream = new ExportStream(format, gzip, outputStream, onStreamStart);
+        try {
+            messageJdbcRepository.streamByRoomId(roomId, fetchSize, row -> writeRow(stream.writer(), format, row));
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 — 커서를 닫고 중단
+            log.info("메시지 내보내기 중단 roomId={}: {}", roomId, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        stream.finish();
+    }
+
+    private void writeRow(Writer writer, MessageExportFormat format, MessageExportRow row) {
+        try {
+            if (format == MessageExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+            } else {
+                writer.write(String.valueOf(row.messageId()));
+                writer.write(',');
+                writer.write(row.senderId() != null ? String.valueOf(row.senderId()) : "");
+                writer.write(',');
+                writer.write(csvField(row.senderNickname()));
+                writer.write(',');
+                writer.write(csvField(row.content()));
+                writer.write(',');
+                writer.write(row.type().name());
+                writer.write(',');
+                writer.write(row.sentAt().toString());
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RFC 4180 — 쉼표 / 따옴표 / 줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 첫 기록 시점에 압축 스트림 / CSV 헤더를 만드는 응답 스트림
+    private static final class ExportStream {
+
+        private final MessageExportFormat format;
+        private final boolean gzip;
+        private final OutputStream outputStream;
+        private final Runnable onStreamStart;
+        private GZIPOutputStream gzipStream;
+        private Writer writer;
+
+        ExportStream(MessageExportFormat format, boolean gzip, OutputStream outputStream, Runnable onStreamStart) {
+            this.format = format;
+            this.gzip = gzip;
+            this.outputStream = outputStream;
+            this.onStreamStart = onStreamStart;
+        }
+
+        Writer writer() {
+            if (writer == null) {
+                try {
+                    start();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return writer;
+        }
+
+        void finish() throws IOException {
+            writer();
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        }
+
+        private void start() throws IOException {
+            onStreamStart.run();
+            gzipStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+            writer = new BufferedWriter(
+                    new OutputStreamWriter(gzip ? gzipStream : outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == MessageExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+            }
+        }
+    }
+}
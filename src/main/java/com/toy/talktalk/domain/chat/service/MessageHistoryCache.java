@@ -0,0 +1,209 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import com.toy.talktalk.domain.user.service.UserNicknameChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 채팅방 최근 메시지 캐시 — Redis ZSet room:history:{roomId} (score = messageId, member = 응답 JSON)
+// 불변식: ZSet 최소 id 이상인 메시지는 모두 들어 있음 → 요청 범위가 캐시 안에 있으면 DB 조회 생략
+// HEAD_MARKER(score 0) 가 있으면 채팅방 첫 메시지까지 캐시된 상태, 용량 초과로 잘리면 함께 제거됨
+// 갱신은 Lua 로 score(messageId) 단위 교체 — 같은 메시지가 다른 JSON 으로 두 번 들어가지 않음
+// TTL 은 키 생성 시에만 설정 (append 로 연장하지 않음) — append 누락으로 생긴 틈도 최대 TTL 후 DB 에서 다시 채움
+// 항목에 발신자 닉네임이 들어 있으므로 닉네임 변경 시 그 유저의 채팅방 캐시를 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageHistoryCache {
+
+    private static final String HISTORY_KEY_PREFIX = "room:history:";
+    private static final String HEAD_MARKER = "^";
+    private static final RedisScript<Long> WRITE_HISTORY_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/write_history.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Value("${chat.history-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.history-cache.capacity:100}")
+    private int capacity;
+
+    @Value("${chat.history-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = meterRegistry.counter("chat.history.cache", "result", "hit");
+        missCounter = meterRegistry.counter("chat.history.cache", "result", "miss");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // cursor 이전 최신순 size 개 — 캐시 범위를 벗어나면 empty (DB fallback)
+    public Optional<List<ChatMessageResponse>> find(Long roomId, Long cursor, int size) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        // id 는 53bit 이내 정수라 double score 로 정확히 표현됨
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor - 1;
+
+        Set<String> entries;
+        try {
+            entries = redisTemplate.opsForZSet()
+                    .reverseRangeByScore(historyKey(roomId), 0, max, 0, size);
+        } catch (RuntimeException e) {
+            log.warn("히스토리 캐시 조회 실패 roomId={}", roomId, e);
+            entries = null;
+        }
+
+        List<ChatMessageResponse> messages = new ArrayList<>(size);
+        boolean reachedHead = false;
+        if (entries != null) {
+            for (String entry : entries) {
+                if (HEAD_MARKER.equals(entry)) {
+                    reachedHead = true;
+                    continue;
+                }
+                try {
+                    messages.add(objectMapper.readValue(entry, ChatMessageResponse.class));
+                } catch (JsonProcessingException e) {
+                    // 형식이 바뀐 항목 — 키를 지우고 DB 에서 다시 채움
+                    log.warn("히스토리 캐시 역직렬화 실패 roomId={}: {}", roomId, e.getOriginalMessage());
+                    evict(roomId);
+                    missCounter.increment();
+                    return Optional.empty();
+                }
+            }
+        }
+
+        if (messages.size() < size && !reachedHead) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(messages);
+    }
+
+    // DB 에서 읽은 최신 구간으로 캐시 채우기 (최신순), reachedHead = 채팅방 첫 메시지까지 포함 여부
+    public void fill(Long roomId, List<ChatMessageResponse> messages, boolean reachedHead) {
+        if (!enabled || (messages.isEmpty() && !reachedHead)) {
+            return;
+        }
+
+        List<String> entries = toEntries(messages);
+        if (reachedHead) {
+            entries.add("0");
+            entries.add(HEAD_MARKER);
+        }
+        write(roomId, entries);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMessageSaved(ChatMessageSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, List<ChatMessageResponse>> messagesByRoom = event.messages().stream()
+                .collect(Collectors.groupingBy(ChatMessageResponse::roomId));
+        messagesByRoom.forEach((roomId, messages) -> write(roomId, toEntries(messages)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNicknameChanged(UserNicknameChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<String> keys = chatRoomMemberRepository.findChatRoomIdsByUserId(event.userId()).stream()
+                    .map(this::historyKey)
+                    .toList();
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (RuntimeException e) {
+            // 남은 캐시는 최대 TTL 후 만료
+            log.warn("닉네임 변경 히스토리 캐시 삭제 실패 userId={}", event.userId(), e);
+        }
+    }
+
+    // entries = (score, member) 쌍
+    private void write(Long roomId, List<String> entries) {
+        String key = historyKey(roomId);
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(ttlSeconds));
+        args.addAll(entries);
+        try {
+            redisTemplate.execute(WRITE_HISTORY_SCRIPT, List.of(key), args.toArray());
+        } catch (RuntimeException e) {
+            // 일부만 반영되면 불변식이 깨지므로 키를 지워 DB 에서 다시 채우도록 함
+            log.warn("히스토리 캐시 갱신 실패 roomId={}", roomId, e);
+            evict(roomId);
+        }
+    }
+
+    public void evict(Long roomId) {
+        try {
+            redisTemplate.delete(historyKey(roomId));
+        } catch (RuntimeException e) {
+            log.warn("히스토리 캐시 삭제 실패 roomId={}", roomId, e);
+        }
+    }
+
+    private List<String> toEntries(List<ChatMessageResponse> messages) {
+        List<String> entries = new ArrayList<>(messages.size() * 2 + 2);
+        for (ChatMessageResponse message : messages) {
+            entries.add(String.valueOf(message.messageId()));
+            entries.add(serialize(message));
+        }
+        return entries;
+    }
+
+    private String serialize(ChatMessageResponse message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메시지 직렬화 실패", e);
+        }
+    }
+
+    private String historyKey(Long roomId) {
+        return HISTORY_KEY_PREFIX + roomId;
+    }
+}
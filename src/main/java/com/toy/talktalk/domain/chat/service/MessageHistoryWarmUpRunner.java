@@ -0,0 +1,33 @@
+package com.toy.talktalk.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// chat.history-cache.warm-up-on-startup=true 시 기동 직후 활발한 채팅방의 최근 메시지를 캐시에 적재
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.history-cache.warm-up-on-startup", havingValue = "true")
+public class MessageHistoryWarmUpRunner implements ApplicationRunner {
+
+    private final ChatMessageService chatMessageService;
+
+    @Value("${chat.history-cache.warm-up-room-count:100}")
+    private int roomCount;
+
+    @Value("${chat.history-cache.warm-up-active-hours:24}")
+    private long activeHours;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int warmed = chatMessageService.warmUpHistoryCache(roomCount, Duration.ofHours(activeHours));
+        log.info("히스토리 캐시 워밍업 완료 rooms={}", warmed);
+    }
+}
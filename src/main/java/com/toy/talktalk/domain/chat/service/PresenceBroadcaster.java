@@ -0,0 +1,259 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.PresenceChange;
+import com.toy.talktalk.domain.chat.dto.PresenceResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceStatus;
+import com.toy.talktalk.global.redis.OnlineStatusService;
+import com.toy.talktalk.global.redis.RedisChatSubscriber;
+import com.toy.talktalk.global.redis.RedisSubscriptionManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 온라인 상태 변경(접속 / 마지막 세션 종료 / 유휴)을 유저가 속한 채팅방에 전파 (chat.presence.events.enabled)
+// 마지막 세션 종료는 debounce-ms 뒤에도 전역으로 오프라인일 때만 OFFLINE — 그 안에 재접속하면 이벤트 없음
+// 노드는 tick 마다 자기 유저의 변경을 chat:presence 채널로 한 번 발행하고,
+// 모든 노드는 받은 변경을 로컬 구독자가 있는 채팅방별로 묶어 /sub/room/{id}/signals 로 1건씩 전달
+// 유휴는 이 노드에서 받은 STOMP SEND 기준 (다른 노드 / 기기의 활동은 반영하지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceBroadcaster implements MessageListener {
+
+    private static final String PRESENCE_CHANNEL = "chat:presence";
+    private static final PresenceStatus[] STATUSES = PresenceStatus.values();
+
+    private final OnlineStatusService onlineStatusService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final RedisChatSubscriber redisChatSubscriber;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.presence.events.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.presence.events.debounce-ms:5000}")
+    private long debounceMillis;
+
+    @Value("${chat.presence.events.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${chat.presence.events.idle-after-ms:300000}")
+    private long idleAfterMillis;
+
+    private final Map<Long, LocalUser> localUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pendingOfflineDeadlines = new ConcurrentHashMap<>();
+    private final Map<Long, PresenceStatus> pendingChanges = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService tickScheduler;
+    private Counter suppressedCounter;
+    private Counter fanoutRoomsCounter;
+
+    @PostConstruct
+    void start() {
+        suppressedCounter = meterRegistry.counter("chat.presence.flaps.suppressed");
+        fanoutRoomsCounter = meterRegistry.counter("chat.presence.fanout.rooms");
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(PRESENCE_CHANNEL));
+        tickScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "presence-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tickScheduler.scheduleWithFixedDelay(this::tickSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (tickScheduler != null) {
+            tickScheduler.shutdownNow();
+        }
+    }
+
+    // STOMP CONNECT — 온라인 등록 후, 처음 온라인이 된 경우에만 ONLINE
+    public void connected(Long userId, String sessionId) {
+        if (!enabled) {
+            onlineStatusService.markOnline(userId, sessionId);
+            return;
+        }
+        boolean flapped = pendingOfflineDeadlines.remove(userId) != null;
+        boolean wasOnline = flapped || localUsers.containsKey(userId) || onlineStatusService.isOnline(userId);
+        onlineStatusService.markOnline(userId, sessionId);
+        localUsers.compute(userId, (id, user) -> {
+            LocalUser next = user != null ? user : new LocalUser();
+            next.sessions++;
+            next.lastActiveAt = System.currentTimeMillis();
+            return next;
+        });
+        if (flapped) {
+            suppressedCounter.increment();
+        } else if (!wasOnline) {
+            pendingChanges.put(userId, PresenceStatus.ONLINE);
+        }
+    }
+
+    // STOMP 연결 해제 — 이 노드의 마지막 세션이면 debounce 후 전역 상태를 확인해 OFFLINE
+    public void disconnected(Long userId, String sessionId) {
+        onlineStatusService.markOffline(userId, sessionId);
+        if (!enabled) {
+            return;
+        }
+        LocalUser remaining = localUsers.computeIfPresent(userId, (id, user) -> --user.sessions > 0 ? user : null);
+        if (remaining == null) {
+            pendingOfflineDeadlines.put(userId, System.currentTimeMillis() + debounceMillis);
+        }
+    }
+
+    // STOMP SEND — 유휴 상태였다면 ONLINE 으로 복귀
+    public void touch(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        LocalUser user = localUsers.get(userId);
+        if (user == null) {
+            return;
+        }
+        user.lastActiveAt = System.currentTimeMillis();
+        if (user.idle) {
+            user.idle = false;
+            pendingChanges.put(userId, PresenceStatus.ONLINE);
+        }
+    }
+
+    void tick() {
+        long now = System.currentTimeMillis();
+        expirePendingOffline(now);
+        for (Map.Entry<Long, LocalUser> entry : localUsers.entrySet()) {
+            LocalUser user = entry.getValue();
+            if (!user.idle && now - user.lastActiveAt >= idleAfterMillis) {
+                user.idle = true;
+                pendingChanges.put(entry.getKey(), PresenceStatus.IDLE);
+            }
+        }
+        publishPendingChanges();
+    }
+
+    // 다른 노드 / 기기에 세션이 남은 유저는 OFFLINE 을 보내지 않음 — 후보 전체를 한 번에 조회
+    private void expirePendingOffline(long now) {
+        List<Long> expired = new ArrayList<>();
+        Iterator<Map.Entry<Long, Long>> iterator = pendingOfflineDeadlines.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            if (entry.getValue() <= now && pendingOfflineDeadlines.remove(entry.getKey(), entry.getValue())) {
+                expired.add(entry.getKey());
+            }
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        Set<Long> stillOnline = onlineStatusService.getOnlineUserIds(expired);
+        for (Long userId : expired) {
+            if (!stillOnline.contains(userId) && !localUsers.containsKey(userId)) {
+                pendingChanges.put(userId, PresenceStatus.OFFLINE);
+            }
+        }
+    }
+
+    // "userId:ordinal,userId:ordinal" — 유저별 마지막 상태 하나만
+    private void publishPendingChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        StringBuilder payload = new StringBuilder();
+        for (Long userId : List.copyOf(pendingChanges.keySet())) {
+            PresenceStatus status = pendingChanges.remove(userId);
+            if (status == null) {
+                continue;
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(userId).append(':').append(status.ordinal());
+            meterRegistry.counter("chat.presence.transitions", "status", status.name()).increment();
+        }
+        if (!payload.isEmpty()) {
+            redisTemplate.convertAndSend(PRESENCE_CHANNEL, payload.toString());
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("온라인 상태 변경 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // 모든 노드(자신 포함)에서 수신 — 로컬 구독자가 있는 채팅방만 멤버 여부를 확인해 채팅방당 1건 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Map<Long, PresenceStatus> changes = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Long roomId : redisSubscriptionManager.localRoomIds()) {
+            long[] memberIds = chatRoomMembershipCache.getMemberIds(roomId);
+            List<PresenceChange> roomChanges = null;
+            for (Map.Entry<Long, PresenceStatus> change : changes.entrySet()) {
+                if (Arrays.binarySearch(memberIds, change.getKey()) >= 0) {
+                    if (roomChanges == null) {
+                        roomChanges = new ArrayList<>();
+                    }
+                    roomChanges.add(new PresenceChange(change.getKey(), change.getValue()));
+                }
+            }
+            if (roomChanges != null) {
+                fanoutRoomsCounter.increment();
+                redisChatSubscriber.deliver(new PresenceResponse(roomId, roomChanges));
+            }
+        }
+    }
+
+    private static Map<Long, PresenceStatus> parse(String payload) {
+        Map<Long, PresenceStatus> changes = new LinkedHashMap<>();
+        for (String entry : payload.split(",")) {
+            int separator = entry.indexOf(':');
+            try {
+                changes.put(Long.parseLong(entry.substring(0, separator)),
+                        STATUSES[Integer.parseInt(entry.substring(separator + 1))]);
+            } catch (RuntimeException e) {
+                log.warn("잘못된 온라인 상태 변경: {}", entry);
+            }
+        }
+        return changes;
+    }
+
+    // 이 노드의 세션 수 / 마지막 활동 시각 — sessions 는 compute 안에서만 변경
+    private static final class LocalUser {
+        private int sessions;
+        private volatile long lastActiveAt;
+        private volatile boolean idle;
+    }
+}
@@ -0,0 +1,5 @@
+package com.toy.talktalk.domain.user.service;
+
+// 닉네임 변경 커밋 후 — 닉네임이 들어간 히스토리 캐시 무효화 용
+public record UserNicknameChangedEvent(Long userId) {
+}
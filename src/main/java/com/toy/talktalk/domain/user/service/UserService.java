@@ -8,8 +8,11 @@ import com.toy.talktalk.domain.user.repository.UserRepository;
 import com.toy.talktalk.global.exception.BusinessException;
 import com.toy.talktalk.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -19,21 +22,29 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    // 트랜잭션 없이 — 중복 확인, BCrypt 해시, 저장이 각각 짧게 커넥션을 쓰고 반납 (해시 대기 중 커넥션 점유 방지)
+    // 중복 확인과 저장 사이 경합은 email unique 제약으로 막고 같은 EMAIL_ALREADY_EXISTS 로 응답
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.email())) {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
+        String encodedPassword = passwordEncoder.encode(request.password());
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(encodedPassword)
                 .nickname(request.nickname())
                 .role("ROLE_USER")
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
     }
 
     public UserProfileResponse getUserProfile(Long userId) {
@@ -46,7 +57,11 @@ public class UserService {
     public UserProfileResponse updateProfile(Long userId, UpdateProfileRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        String previousNickname = user.getNickname();
         user.updateProfile(request.nickname(), request.profileImageUrl());
+        if (!user.getNickname().equals(previousNickname)) {
+            eventPublisher.publishEvent(new UserNicknameChangedEvent(userId));
+        }
         return UserProfileResponse.from(user);
     }
 }
@@ -0,0 +1,20 @@
+package com.toy.talktalk.global.cluster;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+// 클러스터 내 현재 인스턴스 식별자 — 라우팅 테이블 / 노드 inbox 채널 이름에 사용
+@Getter
+@Component
+public class ClusterNode {
+
+    private final String nodeId;
+
+    public ClusterNode(@Value("${chat.cluster.node-name:}") String nodeName) {
+        this.nodeId = StringUtils.hasText(nodeName) ? nodeName : UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,134 @@
+package com.toy.talktalk.global.cluster;
+
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.global.redis.ChatEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 다른 노드의 inbox 채널(chat:node:{nodeId})로 이벤트 전송
+// 단일 전송 스레드가 큐에 쌓인 이벤트를 노드별로 묶어 PUBLISH 1회로 보냄 (큐 순서 = 채팅방 내 순서 유지)
+// 큐가 가득 차면 offer-timeout-ms 만큼만 기다린 뒤 버림 — 전송 스레드를 우회하면 순서가 뒤바뀜
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NodeInboxPublisher {
+
+    private static final String INBOX_CHANNEL_PREFIX = "chat:node:";
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ChatEventCodec chatEventCodec;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.cluster.routing-enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.cluster.inbox-batch-size:256}")
+    private int batchSize;
+
+    @Value("${chat.cluster.inbox-queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.cluster.inbox-offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    private BlockingQueue<InboxEvent> queue;
+    private Counter droppedCounter;
+    private Thread sendThread;
+    private volatile boolean running;
+
+    public static String inboxChannel(String nodeId) {
+        return INBOX_CHANNEL_PREFIX + nodeId;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        droppedCounter = meterRegistry.counter("chat.cluster.inbox.dropped");
+        running = true;
+        sendThread = new Thread(this::runSendLoop, "node-inbox-publisher");
+        sendThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (sendThread == null) {
+            return;
+        }
+        running = false;
+        sendThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void send(String nodeId, ChatEvent event) {
+        if (!running) {
+            droppedCounter.increment();
+            return;
+        }
+        try {
+            if (!queue.offer(new InboxEvent(nodeId, event), offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                droppedCounter.increment();
+                log.warn("inbox 전송 큐 가득 참, 이벤트 버림: nodeId={}", nodeId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    private void runSendLoop() {
+        List<InboxEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                InboxEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<InboxEvent> batch) {
+        Map<String, List<ChatEvent>> eventsByNode = new LinkedHashMap<>();
+        for (InboxEvent inboxEvent : batch) {
+            eventsByNode.computeIfAbsent(inboxEvent.nodeId(), id -> new ArrayList<>()).add(inboxEvent.event());
+        }
+        eventsByNode.forEach(this::publish);
+    }
+
+    private void publish(String nodeId, List<ChatEvent> events) {
+        try {
+            binaryRedisTemplate.convertAndSend(inboxChannel(nodeId), chatEventCodec.encodeBatch(events));
+        } catch (RuntimeException e) {
+            log.error("inbox 이벤트 전송 실패: nodeId={}, size={}", nodeId, events.size(), e);
+        }
+    }
+
+    private record InboxEvent(String nodeId, ChatEvent event) {
+    }
+}
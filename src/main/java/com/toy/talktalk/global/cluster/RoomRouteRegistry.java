@@ -0,0 +1,165 @@
+package com.toy.talktalk.global.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 채팅방 → 로컬 구독자가 있는 노드 라우팅 테이블
+// Redis ZSet route:room:{roomId} (member = nodeId, score = 만료 시각), 노드는 heartbeat 로 만료 시각을 연장
+// 노드가 죽으면 heartbeat 가 멈추고 score 가 지나 자동으로 라우팅에서 빠짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomRouteRegistry implements MessageListener {
+
+    private static final String ROUTE_KEY_PREFIX = "route:room:";
+    private static final String INVALIDATION_CHANNEL = "chat:route:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ClusterNode clusterNode;
+
+    @Value("${chat.cluster.routing-enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.cluster.route-ttl-ms:30000}")
+    private long routeTtlMillis;
+
+    @Value("${chat.cluster.heartbeat-interval-ms:10000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${chat.cluster.route-cache-ms:1000}")
+    private long routeCacheMillis;
+
+    private final Set<Long> localRooms = ConcurrentHashMap.newKeySet();
+    private final Map<Long, CachedRoute> routeCache = new ConcurrentHashMap<>();
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-route-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatScheduler.scheduleAtFixedRate(
+                this::heartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (heartbeatScheduler == null) {
+            return;
+        }
+        heartbeatScheduler.shutdownNow();
+        List.copyOf(localRooms).forEach(this::unregister);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 로컬 구독자 0 → 1
+    public void register(Long roomId) {
+        localRooms.add(roomId);
+        writeRoutes(List.of(roomId));
+        invalidate(roomId);
+    }
+
+    // grace 기간 후 로컬 구독자 0
+    public void unregister(Long roomId) {
+        localRooms.remove(roomId);
+        try {
+            redisTemplate.opsForZSet().remove(routeKey(roomId), clusterNode.getNodeId());
+            invalidate(roomId);
+        } catch (RuntimeException e) {
+            // 실패해도 heartbeat 가 멈추므로 TTL 후 라우팅에서 빠짐
+            log.warn("라우팅 해제 실패 roomId={}", roomId, e);
+        }
+    }
+
+    // 채팅방에 로컬 구독자가 있는 노드 목록 (자기 자신 포함 가능)
+    public Set<String> nodesFor(Long roomId) {
+        long now = System.currentTimeMillis();
+        CachedRoute cached = routeCache.get(roomId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.nodeIds();
+        }
+
+        Set<String> nodeIds = redisTemplate.opsForZSet().rangeByScore(routeKey(roomId), now, Double.POSITIVE_INFINITY);
+        Set<String> result = nodeIds == null ? Set.of() : Set.copyOf(nodeIds);
+        routeCache.put(roomId, new CachedRoute(result, now + routeCacheMillis));
+        return result;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            routeCache.remove(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 라우팅 무효화 메시지: {}", body);
+        }
+    }
+
+    void heartbeat() {
+        try {
+            writeRoutes(List.copyOf(localRooms));
+        } catch (RuntimeException e) {
+            log.warn("라우팅 heartbeat 실패: rooms={}", localRooms.size(), e);
+        }
+    }
+
+    // 채팅방 수와 무관하게 파이프라인 1회 — 만료 시각 연장 + 죽은 노드 정리 + 키 TTL
+    private void writeRoutes(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        byte[] member = clusterNode.getNodeId().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long roomId : roomIds) {
+                byte[] key = routeKey(roomId).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zAdd(key, now + routeTtlMillis, member);
+                connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                connection.keyCommands().pExpire(key, routeTtlMillis);
+            }
+            return null;
+        });
+    }
+
+    private void invalidate(Long roomId) {
+        routeCache.remove(roomId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(roomId));
+    }
+
+    private String routeKey(Long roomId) {
+        return ROUTE_KEY_PREFIX + roomId;
+    }
+
+    private record CachedRoute(Set<String> nodeIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.toy.talktalk.global.config;
+
+import com.toy.talktalk.global.id.IdGenerator;
+import com.toy.talktalk.global.id.NodeIdAllocator;
+import com.toy.talktalk.global.id.NodeIdLeaseHealthIndicator;
+import com.toy.talktalk.global.id.RedisNodeIdAllocator;
+import com.toy.talktalk.global.id.SnowflakeIdGenerator;
+import com.toy.talktalk.global.id.SnowflakeIdentifierGenerator;
+import com.toy.talktalk.global.id.StaticNodeIdAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(
+            NodeIdAllocator nodeIdAllocator,
+            @Value("${chat.id.max-clock-backward-ms:10}") long maxClockBackwardMillis
+    ) {
+        IdGenerator idGenerator = new SnowflakeIdGenerator(
+                nodeIdAllocator.getNodeId(), maxClockBackwardMillis, System::currentTimeMillis, nodeIdAllocator::isHeld);
+        SnowflakeIdentifierGenerator.register(idGenerator);
+        return idGenerator;
+    }
+
+    // /actuator/health 의 nodeIdLease 컴포넌트 (readiness 그룹 포함)
+    @Bean
+    public NodeIdLeaseHealthIndicator nodeIdLeaseHealthIndicator(NodeIdAllocator nodeIdAllocator) {
+        return new NodeIdLeaseHealthIndicator(nodeIdAllocator);
+    }
+
+    // 노드 id 고정 할당 (기본값)
+    @Bean
+    @ConditionalOnProperty(name = "chat.id.node-id-strategy", havingValue = "static", matchIfMissing = true)
+    public NodeIdAllocator staticNodeIdAllocator(@Value("${chat.id.node-id:0}") long nodeId) {
+        return new StaticNodeIdAllocator(nodeId);
+    }
+
+    // 다중 인스턴스 — Redis 임대로 노드 id 자동 할당
+    @Bean
+    @ConditionalOnProperty(name = "chat.id.node-id-strategy", havingValue = "redis")
+    public NodeIdAllocator redisNodeIdAllocator(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${chat.id.node-lease-ttl-seconds:30}") long leaseTtlSeconds
+    ) {
+        return new RedisNodeIdAllocator(redisTemplate, Duration.ofSeconds(leaseTtlSeconds));
+    }
+}
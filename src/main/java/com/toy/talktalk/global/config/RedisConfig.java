@@ -1,12 +1,23 @@
 package com.toy.talktalk.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.talktalk.global.redis.BinaryChatEventCodec;
+import com.toy.talktalk.global.redis.ChatEventCodec;
+import com.toy.talktalk.global.redis.DelegatingChatEventCodec;
+import com.toy.talktalk.global.redis.JsonChatEventCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -23,21 +34,57 @@ public class RedisConfig {
         return template;
     }
 
-    // 객체 직렬화 전용 (Pub/Sub 메시지 등)
+    // 바이트 전용 (Pub/Sub 채팅 이벤트 — 직렬화는 ChatEventCodec 이 담당)
     @Bean
-    public RedisTemplate<String, Object> objectRedisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
         return template;
     }
 
+    // STOMP 페이로드와 같은 JSON 형식 (로컬 전달 시 1회 직렬화)
+    @Bean
+    public JsonChatEventCodec jsonChatEventCodec(ObjectMapper objectMapper) {
+        return new JsonChatEventCodec(objectMapper);
+    }
+
+    // 채팅 이벤트 형식 (json / binary) — 수신은 형식과 무관하게 모두 처리
+    @Bean
+    @Primary
+    public ChatEventCodec chatEventCodec(JsonChatEventCodec jsonCodec, @Value("${chat.redis.codec:json}") String codec) {
+        BinaryChatEventCodec binaryCodec = new BinaryChatEventCodec();
+        ChatEventCodec writeCodec = "binary".equals(codec) ? binaryCodec : jsonCodec;
+        return new DelegatingChatEventCodec(writeCodec, jsonCodec, binaryCodec);
+    }
+
     // Pub/Sub 메시지 수신 컨테이너
+    // dispatch lane 사용 시 수신 순서대로 lane 에 넣도록 단일 리스너 스레드에서 호출 (기본값은 메시지마다 새 스레드)
+    // — Redis I/O 스레드는 넘기기만 하고 리스너(inbox / 무효화 / 온라인 상태 등)를 직접 실행하지 않음
+    // 가상 스레드 모드에서는 메시지마다 가상 스레드
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory, Environment environment,
+            @Value("${chat.redis.dispatch.enabled:false}") boolean dispatchEnabled) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        if (dispatchEnabled) {
+            container.setTaskExecutor(redisListenerExecutor());
+        } else if (Threading.VIRTUAL.isActive(environment)) {
+            container.setTaskExecutor(new VirtualThreadTaskExecutor("redis-listener-"));
+        }
         return container;
     }
+
+    // 순서 유지용 단일 리스너 스레드 — 빈으로 등록하지 않음 (Executor 빈이 있으면 Boot 기본 applicationTaskExecutor 가 생성되지 않음)
+    private static ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-listener-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
 }
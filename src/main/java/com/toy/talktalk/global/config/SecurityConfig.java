@@ -2,10 +2,17 @@ package com.toy.talktalk.global.config;
 
 import com.toy.talktalk.global.jwt.JwtAuthenticationFilter;
 import com.toy.talktalk.global.jwt.JwtProvider;
+import com.toy.talktalk.global.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -22,9 +29,37 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
 
+    @Value("${chat.password-hashing.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${chat.password-hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${chat.password-hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${chat.password-hashing.wait-timeout-ms:5000}")
+    private long hashingWaitTimeoutMillis;
+
+    // MeterRegistry 가 없는 슬라이스 테스트에서는 전역 registry 사용
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor(),
+                hashingWaitTimeoutMillis, bcryptStrength, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    // BCrypt 전용 실행기 — 0 이면 CPU 코어 수, 대기열 초과 시 AUTH_BUSY
+    // 빈으로 등록하지 않음: Executor 빈이 있으면 Boot 의 applicationTaskExecutor(MVC 비동기 / 가상 스레드)가 생성되지 않음
+    private ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
     }
 
     @Bean
@@ -34,6 +69,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        // 스트리밍 응답 완료 후의 ASYNC 디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
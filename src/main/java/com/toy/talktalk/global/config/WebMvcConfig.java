@@ -0,0 +1,19 @@
+package com.toy.talktalk.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Value("${chat.export.timeout-ms:1800000}")
+    private long exportTimeoutMillis;
+
+    // 비동기 실행기는 기본값 유지 — 내보내기 동시 실행 제한은 MessageExportService 에서
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(exportTimeoutMillis);
+    }
+}
@@ -1,13 +1,25 @@
 package com.toy.talktalk.global.config;
 
+import com.toy.talktalk.global.websocket.ChatSubscriptionRegistry;
+import com.toy.talktalk.global.websocket.NativeWebSocketHandshakeHandler;
+import com.toy.talktalk.global.websocket.SlowConsumerGuard;
 import com.toy.talktalk.global.websocket.StompAuthChannelInterceptor;
+import com.toy.talktalk.global.websocket.WebSocketTransportTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,12 +27,51 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final WebSocketTransportTracker webSocketTransportTracker;
+    private final Environment environment;
+
+    @Value("${chat.websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${chat.websocket.outbound.max-buffered-bytes:524288}")
+    private int maxBufferedBytes;
+
+    @Value("${chat.websocket.native.enabled:false}")
+    private boolean nativeEndpointEnabled;
+
+    @Value("${chat.websocket.native.deflate:true}")
+    private boolean deflateEnabled;
+
+    @Value("${chat.websocket.native.deflate-no-context-takeover:false}")
+    private boolean deflateNoContextTakeover;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // SockJS 프레이밍 / fallback 없는 순수 WebSocket 엔드포인트 (permessage-deflate 협상)
+        if (nativeEndpointEnabled) {
+            registry.addEndpoint("/ws-native")
+                    .setAllowedOriginPatterns("*")
+                    .setHandshakeHandler(new NativeWebSocketHandshakeHandler(deflateEnabled, deflateNoContextTakeover));
+        }
+    }
+
+    // simple broker 의 구독 registry 를 채팅방 색인(ChatSubscriptionRegistry)으로 교체
+    @Bean
+    public static BeanPostProcessor chatSubscriptionRegistryInstaller(Environment environment) {
+        boolean enabled = environment.getProperty("chat.websocket.indexed-subscriptions", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof SimpleBrokerMessageHandler brokerMessageHandler) {
+                    brokerMessageHandler.setSubscriptionRegistry(new ChatSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
     }
 
     @Override
@@ -29,8 +80,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
+    // 세션별 송신 한도 — 소켓 쓰기 하나가 send-time-limit 을 넘기거나 버퍼가 max-buffered-bytes 를 넘으면 연결 종료
+    // 그보다 앞 단계(slow-buffered-bytes)에서 SlowConsumerGuard 가 비필수 이벤트를 버리거나 재동기화 안내와 함께 종료
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(maxBufferedBytes)
+                .addDecoratorFactory(slowConsumerGuard)
+                .addDecoratorFactory(webSocketTransportTracker);
+    }
+
+    // 가상 스레드 모드(spring.threads.virtual.enabled, JDK 21+)에서는 STOMP 수신 / 송신 채널도 가상 스레드로 처리
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        registration.interceptors(stompAuthChannelInterceptor, webSocketTransportTracker.inboundInterceptor());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    // 바이너리 본문 교체가 먼저 — SlowConsumerGuard 는 실제로 보낼 크기로 대기량 계산
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketTransportTracker, slowConsumerGuard);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
     }
 }
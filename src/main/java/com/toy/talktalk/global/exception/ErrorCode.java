@@ -18,6 +18,7 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다."),
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "EMAIL_ALREADY_EXISTS", "이미 사용 중인 이메일입니다."),
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "INVALID_PASSWORD", "비밀번호가 올바르지 않습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AUTH_BUSY", "로그인 / 회원가입 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // JWT
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "유효하지 않은 토큰입니다."),
@@ -26,7 +27,11 @@ public enum ErrorCode {
     // 채팅방
     CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT_ROOM_NOT_FOUND", "채팅방을 찾을 수 없습니다."),
     ALREADY_JOINED_ROOM(HttpStatus.CONFLICT, "ALREADY_JOINED_ROOM", "이미 참여 중인 채팅방입니다."),
-    NOT_ROOM_MEMBER(HttpStatus.FORBIDDEN, "NOT_ROOM_MEMBER", "채팅방 멤버가 아닙니다.");
+    NOT_ROOM_MEMBER(HttpStatus.FORBIDDEN, "NOT_ROOM_MEMBER", "채팅방 멤버가 아닙니다."),
+
+    // 메시지
+    MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "MESSAGE_QUEUE_FULL", "메시지 처리량이 많습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "EXPORT_BUSY", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
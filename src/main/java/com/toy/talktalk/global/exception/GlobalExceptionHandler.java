@@ -2,6 +2,7 @@ package com.toy.talktalk.global.exception;
 
 import com.toy.talktalk.global.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -15,14 +16,15 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 503 (대기열 포화) 응답의 재시도 권장 시간
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     // 비즈니스 예외 처리 (커스텀 예외)
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
         log.warn("BusinessException: {}", e.getMessage());
         ErrorCode errorCode = e.getErrorCode();
-        return ResponseEntity
-                .status(errorCode.getStatus())
-                .body(ErrorResponse.of(errorCode.getStatus(), errorCode.getCode(), errorCode.getMessage()));
+        return errorResponse(errorCode);
     }
 
     // @Valid 유효성 검사 실패 처리
@@ -44,6 +46,14 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.BAD_REQUEST, "INVALID_INPUT", "입력값이 올바르지 않습니다.", fieldErrors));
     }
 
+    private ResponseEntity<ErrorResponse> errorResponse(ErrorCode errorCode) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(errorCode.getStatus());
+        if (errorCode.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return builder.body(ErrorResponse.of(errorCode.getStatus(), errorCode.getCode(), errorCode.getMessage()));
+    }
+
     // 그 외 예상치 못한 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
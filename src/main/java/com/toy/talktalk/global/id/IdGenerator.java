@@ -0,0 +1,6 @@
+package com.toy.talktalk.global.id;
+
+public interface IdGenerator {
+
+    long nextId();
+}
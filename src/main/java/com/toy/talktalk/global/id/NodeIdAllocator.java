@@ -0,0 +1,11 @@
+package com.toy.talktalk.global.id;
+
+public interface NodeIdAllocator {
+
+    long getNodeId();
+
+    // 노드 id 를 계속 단독으로 쓰고 있는지 — false 면 id 생성 중단
+    default boolean isHeld() {
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.toy.talktalk.global.id;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+// 노드 id 임대를 잃으면 (다른 인스턴스가 점유 / 갱신 없이 TTL 초과) DOWN — readiness 그룹에 포함해 트래픽에서 제외
+// 빼앗긴 임대는 되찾지 않으므로 인스턴스를 재시작해야 새 노드 id 를 받는다
+@RequiredArgsConstructor
+public class NodeIdLeaseHealthIndicator implements HealthIndicator {
+
+    private final NodeIdAllocator nodeIdAllocator;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = nodeIdAllocator.isHeld() ? Health.up() : Health.down();
+        return builder.withDetail("nodeId", nodeIdAllocator.getNodeId()).build();
+    }
+}
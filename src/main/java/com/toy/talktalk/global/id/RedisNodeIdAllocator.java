@@ -0,0 +1,101 @@
+package com.toy.talktalk.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Redis 임대(SET NX + TTL)로 인스턴스마다 겹치지 않는 노드 id 를 할당하고 주기적으로 갱신
+// 마지막 갱신 성공 후 TTL 이 지났거나 다른 인스턴스가 임대를 가져가면 isHeld() = false — id 생성 중단
+@Slf4j
+public class RedisNodeIdAllocator implements NodeIdAllocator, AutoCloseable {
+
+    private static final String NODE_ID_KEY_PREFIX = "id:node:";
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/renew_node_lease.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration leaseTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService leaseRenewer;
+    private final long nodeId;
+    private volatile long heldUntilNanos;
+    private volatile boolean lost;
+
+    public RedisNodeIdAllocator(RedisTemplate<String, String> redisTemplate, Duration leaseTtl) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.nodeId = acquireNodeId();
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "node-id-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long renewIntervalMillis = leaseTtl.toMillis() / 3;
+        leaseRenewer.scheduleAtFixedRate(this::renewLease, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("노드 id 할당 완료: nodeId={}, instanceId={}", nodeId, instanceId);
+    }
+
+    @Override
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // 다른 인스턴스에 빼앗긴 임대는 되찾지 않음 — 같은 노드 id 로 생성한 id 가 겹칠 수 있으므로
+    @Override
+    public boolean isHeld() {
+        return !lost && System.nanoTime() - heldUntilNanos < 0;
+    }
+
+    @Override
+    public void close() {
+        leaseRenewer.shutdownNow();
+        String key = NODE_ID_KEY_PREFIX + nodeId;
+        if (instanceId.equals(redisTemplate.opsForValue().get(key))) {
+            redisTemplate.delete(key);
+        }
+    }
+
+    private long acquireNodeId() {
+        for (long candidate = 0; candidate <= SnowflakeIdGenerator.MAX_NODE_ID; candidate++) {
+            long requestedAt = System.nanoTime();
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(NODE_ID_KEY_PREFIX + candidate, instanceId, leaseTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                heldUntilNanos = requestedAt + leaseTtl.toNanos();
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("할당 가능한 노드 id 가 없습니다. (최대 " + (SnowflakeIdGenerator.MAX_NODE_ID + 1) + "개)");
+    }
+
+    void renewLease() {
+        if (lost) {
+            return;
+        }
+        String key = NODE_ID_KEY_PREFIX + nodeId;
+        try {
+            long requestedAt = System.nanoTime();
+            Long result = redisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(key),
+                    instanceId, String.valueOf(leaseTtl.toMillis()));
+            if (result != null && result > 0) {
+                heldUntilNanos = requestedAt + leaseTtl.toNanos();
+                if (result == 2) {
+                    log.warn("만료된 노드 id 임대 재획득: nodeId={}", nodeId);
+                }
+            } else {
+                lost = true;
+                log.error("노드 id 임대를 다른 인스턴스가 점유 — id 생성 중단: nodeId={}", nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("노드 id 임대 갱신 실패: nodeId={}, {}", nodeId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.toy.talktalk.global.id;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+// 시간순 정렬 가능한 id 생성기 — [timestamp 41bit][node 5bit][sequence 7bit]
+// 전체 53bit 로 제한하여 JavaScript Number 로도 정밀도 손실 없이 다룰 수 있다
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    static final int NODE_ID_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + NODE_ID_BITS;
+
+    private final long nodeId;
+    private final long maxClockBackwardMillis;
+    private final LongSupplier clock;
+    private final BooleanSupplier nodeIdHeld;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long nodeId, long maxClockBackwardMillis, LongSupplier clock) {
+        this(nodeId, maxClockBackwardMillis, clock, () -> true);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long maxClockBackwardMillis, LongSupplier clock,
+                                BooleanSupplier nodeIdHeld) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.maxClockBackwardMillis = maxClockBackwardMillis;
+        this.clock = clock;
+        this.nodeIdHeld = nodeIdHeld;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        // 노드 id 임대를 잃은 뒤에는 다른 노드와 id 가 겹칠 수 있으므로 실패
+        if (!nodeIdHeld.getAsBoolean()) {
+            throw new IllegalStateException("노드 id 임대를 잃어 id 를 생성할 수 없습니다. nodeId=" + nodeId);
+        }
+        long timestamp = currentTimestamp();
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitUntilAfter(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH_MILLIS) << TIMESTAMP_SHIFT) | (nodeId << NODE_ID_SHIFT) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // 시계가 허용 범위 내로 역행하면 따라잡을 때까지 대기, 그 이상이면 중복 방지를 위해 실패
+    private long currentTimestamp() {
+        long timestamp = clock.getAsLong();
+        if (timestamp >= lastTimestamp) {
+            return timestamp;
+        }
+
+        long backward = lastTimestamp - timestamp;
+        if (backward > maxClockBackwardMillis) {
+            throw new IllegalStateException("시스템 시계가 " + backward + "ms 역행하여 id 를 생성할 수 없습니다.");
+        }
+        return waitUntilAfter(lastTimestamp - 1);
+    }
+
+    private long waitUntilAfter(long timestamp) {
+        long now = clock.getAsLong();
+        while (now <= timestamp) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
@@ -0,0 +1,23 @@
+package com.toy.talktalk.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+// Hibernate 가 직접 생성하는 클래스이므로 스프링 빈인 IdGenerator 를 정적으로 위임받는다
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile IdGenerator delegate;
+
+    public static void register(IdGenerator idGenerator) {
+        delegate = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        IdGenerator idGenerator = delegate;
+        if (idGenerator == null) {
+            throw new IllegalStateException("IdGenerator 가 등록되지 않았습니다.");
+        }
+        return idGenerator.nextId();
+    }
+}
@@ -0,0 +1,10 @@
+package com.toy.talktalk.global.id;
+
+// 설정값으로 노드 id 를 고정 — 단일 인스턴스 또는 배포 도구가 id 를 지정하는 경우
+public record StaticNodeIdAllocator(long nodeId) implements NodeIdAllocator {
+
+    @Override
+    public long getNodeId() {
+        return nodeId;
+    }
+}
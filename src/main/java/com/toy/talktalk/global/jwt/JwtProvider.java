@@ -5,29 +5,51 @@ import com.toy.talktalk.global.exception.ErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Date;
+import java.util.List;
 
 @Slf4j
 @Component
 public class JwtProvider {
 
+    private static final List<GrantedAuthority> USER_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Clock clock;
 
+    @Autowired
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize
     ) {
+        this(secret, accessTokenExpiration, refreshTokenExpiration, verifiedCacheMaxSize, Clock.systemUTC());
+    }
+
+    // 발급 / 만료 검증 / 캐시 만료가 모두 같은 시계를 사용 (테스트에서 시간 이동)
+    JwtProvider(String secret, long accessTokenExpiration, long refreshTokenExpiration, int verifiedCacheMaxSize, Clock clock) {
+        this.clock = clock;
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변 / thread-safe — 요청마다 만들지 않고 재사용
+        this.parser = Jwts.parser().verifyWith(secretKey).clock(() -> new Date(clock.millis())).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokenCache = verifiedCacheMaxSize > 0 ? new VerifiedTokenCache(verifiedCacheMaxSize) : null;
     }
 
     public JwtTokens generateTokens(Long userId) {
@@ -41,7 +63,7 @@ public class JwtProvider {
     }
 
     private String generateToken(Long userId, long expiration) {
-        Date now = new Date();
+        Date now = new Date(clock.millis());
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
@@ -52,6 +74,11 @@ public class JwtProvider {
                 .compact();
     }
 
+    // Access Token 인증 (HTTP 필터 / STOMP CONNECT) — 검증과 userId 추출을 파싱 1회로, 검증된 토큰은 exp 까지 캐시
+    public UsernamePasswordAuthenticationToken authenticate(String token) {
+        return new UsernamePasswordAuthenticationToken(verifiedUserId(token), null, USER_AUTHORITIES);
+    }
+
     public Long extractUserId(String token) {
         Claims claims = parseClaims(token);
         return Long.parseLong(claims.getSubject());
@@ -61,13 +88,26 @@ public class JwtProvider {
         parseClaims(token);
     }
 
+    private Long verifiedUserId(String token) {
+        if (verifiedTokenCache == null || token == null) {
+            return extractUserId(token);
+        }
+        long now = clock.millis();
+        VerifiedTokenCache.Entry cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            return cached.userId();
+        }
+        Claims claims = parseClaims(token);
+        Long userId = Long.parseLong(claims.getSubject());
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(token, userId, claims.getExpiration().getTime());
+        }
+        return userId;
+    }
+
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new BusinessException(ErrorCode.EXPIRED_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
@@ -0,0 +1,93 @@
+package com.toy.talktalk.global.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 서명 검증을 통과한 토큰 → userId 캐시 — 키는 토큰 원문 대신 SHA-256 앞 128bit
+// 락 경합을 줄이려 segment 별 access-order LinkedHashMap(LRU) 로 나눔, 항목은 토큰의 exp 까지만 유효
+// 검증 실패한 토큰은 넣지 않음 (잘못된 토큰으로 캐시를 밀어내지 못하도록)
+class VerifiedTokenCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+
+    VerifiedTokenCache(int maxSize) {
+        int segmentSize = Math.max(1, maxSize / SEGMENTS);
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    // 만료된 항목은 제거 후 null
+    Entry get(String token, long now) {
+        Key key = keyOf(token);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            Entry entry = segment.get(key);
+            if (entry != null && entry.expiresAt() <= now) {
+                segment.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    void put(String token, Long userId, long expiresAt) {
+        Key key = keyOf(token);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            segment.put(key, new Entry(userId, expiresAt));
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentOf(Key key) {
+        return segments[(int) (key.low() & (SEGMENTS - 1))];
+    }
+
+    private static Key keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new Key(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Entry(Long userId, long expiresAt) {
+    }
+
+    private record Key(long high, long low) {
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, Entry> {
+
+        private final int maxSize;
+
+        Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceChange;
+import com.toy.talktalk.domain.chat.dto.PresenceResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceStatus;
+import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// varint 바이너리 형식 — 클래스명 / 필드명 없이 값만 기록
+// [version 1B][이벤트 수 varint][이벤트...], 이벤트 = [kind 1B][null 플래그 1B][필드...]
+// version 바이트는 JSON 이 시작할 수 없는 값이라 수신 측에서 형식을 구분할 수 있음 (DelegatingChatEventCodec)
+// enum 은 ordinal 이 아닌 아래 고정 코드로 기록 — 선언 순서가 바뀌어도 노드 간 호환 (기존 코드는 변경 / 재사용 금지)
+public class BinaryChatEventCodec implements ChatEventCodec {
+
+    public static final byte FORMAT_VERSION = 0x01;
+
+    private static final byte KIND_MESSAGE = 1;
+    private static final byte KIND_READ_ACK = 2;
+    private static final byte KIND_SIGNAL = 3;
+    private static final byte KIND_PRESENCE = 4;
+    private static final WireCodes<MessageType> MESSAGE_TYPE_CODES = new WireCodes<>(MessageType.class, Map.of(
+            MessageType.TEXT, 0,
+            MessageType.IMAGE, 1,
+            MessageType.SYSTEM, 2));
+    private static final WireCodes<SignalType> SIGNAL_TYPE_CODES = new WireCodes<>(SignalType.class, Map.of(
+            SignalType.TYPING, 0,
+            SignalType.STOPPED_TYPING, 1,
+            SignalType.VIEWING, 2));
+    private static final WireCodes<PresenceStatus> PRESENCE_STATUS_CODES = new WireCodes<>(PresenceStatus.class, Map.of(
+            PresenceStatus.ONLINE, 0,
+            PresenceStatus.IDLE, 1,
+            PresenceStatus.OFFLINE, 2));
+
+    @Override
+    public byte[] encode(ChatEvent event) {
+        return encodeBatch(List.of(event));
+    }
+
+    @Override
+    public byte[] encodeBatch(List<ChatEvent> events) {
+        Output out = new Output(64 * events.size());
+        out.write(FORMAT_VERSION);
+        out.writeVarLong(events.size());
+        for (ChatEvent event : events) {
+            if (event instanceof ChatMessageResponse message) {
+                writeMessage(out, message);
+            } else if (event instanceof ReadAckResponse readAck) {
+                writeReadAck(out, readAck);
+            } else if (event instanceof ChatSignalResponse signal) {
+                writeSignal(out, signal);
+            } else if (event instanceof PresenceResponse presence) {
+                writePresence(out, presence);
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 이벤트: " + event.getClass().getName());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public List<ChatEvent> decode(byte[] payload) {
+        Input in = new Input(payload);
+        byte version = in.read();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 형식 버전: " + version);
+        }
+        int count = (int) in.readVarLong();
+        List<ChatEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte kind = in.read();
+            events.add(switch (kind) {
+                case KIND_MESSAGE -> readMessage(in);
+                case KIND_READ_ACK -> readReadAck(in);
+                case KIND_SIGNAL -> readSignal(in);
+                case KIND_PRESENCE -> readPresence(in);
+                default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류: " + kind);
+            });
+        }
+        return events;
+    }
+
+    private void writeMessage(Output out, ChatMessageResponse message) {
+        out.write(KIND_MESSAGE);
+        out.write(flags(message.senderId(), message.senderNickname(), message.content(), message.type(), message.sentAt()));
+        out.writeVarLong(message.messageId());
+        out.writeVarLong(message.roomId());
+        if (message.senderId() != null) {
+            out.writeVarLong(message.senderId());
+        }
+        if (message.senderNickname() != null) {
+            out.writeString(message.senderNickname());
+        }
+        if (message.content() != null) {
+            out.writeString(message.content());
+        }
+        if (message.type() != null) {
+            out.writeVarLong(MESSAGE_TYPE_CODES.code(message.type()));
+        }
+        if (message.sentAt() != null) {
+            out.writeDateTime(message.sentAt());
+        }
+    }
+
+    private ChatMessageResponse readMessage(Input in) {
+        byte flags = in.read();
+        long messageId = in.readVarLong();
+        long roomId = in.readVarLong();
+        Long senderId = (flags & 1) != 0 ? in.readVarLong() : null;
+        String senderNickname = (flags & 2) != 0 ? in.readString() : null;
+        String content = (flags & 4) != 0 ? in.readString() : null;
+        MessageType type = (flags & 8) != 0 ? MESSAGE_TYPE_CODES.value(in.readVarLong()) : null;
+        LocalDateTime sentAt = (flags & 16) != 0 ? in.readDateTime() : null;
+        return new ChatMessageResponse(messageId, roomId, senderId, senderNickname, content, type, sentAt);
+    }
+
+    private void writeReadAck(Output out, ReadAckResponse readAck) {
+        out.write(KIND_READ_ACK);
+        out.write(flags(readAck.readAt()));
+        out.writeVarLong(readAck.roomId());
+        out.writeVarLong(readAck.userId());
+        if (readAck.readAt() != null) {
+            out.writeDateTime(readAck.readAt());
+        }
+    }
+
+    private ReadAckResponse readReadAck(Input in) {
+        byte flags = in.read();
+        long roomId = in.readVarLong();
+        long userId = in.readVarLong();
+        LocalDateTime readAt = (flags & 1) != 0 ? in.readDateTime() : null;
+        return new ReadAckResponse(roomId, userId, readAt);
+    }
+
+    private void writeSignal(Output out, ChatSignalResponse signal) {
+        out.write(KIND_SIGNAL);
+        out.writeVarLong(signal.roomId());
+        out.writeVarLong(signal.userId());
+        out.writeVarLong(SIGNAL_TYPE_CODES.code(signal.type()));
+    }
+
+    private ChatSignalResponse readSignal(Input in) {
+        long roomId = in.readVarLong();
+        long userId = in.readVarLong();
+        SignalType type = SIGNAL_TYPE_CODES.value(in.readVarLong());
+        return new ChatSignalResponse(roomId, userId, type);
+    }
+
+    private void writePresence(Output out, PresenceResponse presence) {
+        out.write(KIND_PRESENCE);
+        out.writeVarLong(presence.roomId());
+        out.writeVarLong(presence.changes().size());
+        for (PresenceChange change : presence.changes()) {
+            out.writeVarLong(change.userId());
+            out.writeVarLong(PRESENCE_STATUS_CODES.code(change.status()));
+        }
+    }
+
+    private PresenceResponse readPresence(Input in) {
+        long roomId = in.readVarLong();
+        int count = (int) in.readVarLong();
+        List<PresenceChange> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long userId = in.readVarLong();
+            changes.add(new PresenceChange(userId, PRESENCE_STATUS_CODES.value(in.readVarLong())));
+        }
+        return new PresenceResponse(roomId, changes);
+    }
+
+    // nullable 필드 존재 여부 — 인자 순서대로 bit 0, 1, 2 ...
+    private byte flags(Object... nullableFields) {
+        int flags = 0;
+        for (int i = 0; i < nullableFields.length; i++) {
+            if (nullableFields[i] != null) {
+                flags |= 1 << i;
+            }
+        }
+        return (byte) flags;
+    }
+
+    // enum ↔ 와이어 코드 — 코드가 없는 상수가 추가되면 클래스 초기화 시점에 실패
+    private static final class WireCodes<E extends Enum<E>> {
+
+        private final Map<E, Integer> codes;
+        private final Map<Integer, E> values = new HashMap<>();
+
+        WireCodes(Class<E> type, Map<E, Integer> codes) {
+            this.codes = new EnumMap<>(codes);
+            for (E constant : type.getEnumConstants()) {
+                Integer code = codes.get(constant);
+                if (code == null || values.putIfAbsent(code, constant) != null) {
+                    throw new IllegalStateException("와이어 코드가 없거나 중복: " + type.getSimpleName() + "." + constant);
+                }
+            }
+        }
+
+        int code(E value) {
+            return codes.get(value);
+        }
+
+        E value(long code) {
+            E value = code <= Integer.MAX_VALUE ? values.get((int) code) : null;
+            if (value == null) {
+                throw new IllegalArgumentException("알 수 없는 코드: " + code);
+            }
+            return value;
+        }
+    }
+
+    private static final class Output extends ByteArrayOutputStream {
+
+        Output(int initialSize) {
+            super(initialSize);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        // LocalDateTime 을 UTC 기준 초 + 나노초로 기록 (시간대 변환 없음, 손실 없음)
+        void writeDateTime(LocalDateTime value) {
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte read() {
+            return buffer[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long epochSecond = readVarLong();
+            int nano = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+    }
+}
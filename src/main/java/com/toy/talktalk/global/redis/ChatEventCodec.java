@@ -0,0 +1,15 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+
+import java.util.List;
+
+// Redis Pub/Sub 채팅 이벤트 직렬화 — 단건 / 묶음 모두 decode 결과는 목록
+public interface ChatEventCodec {
+
+    byte[] encode(ChatEvent event);
+
+    byte[] encodeBatch(List<ChatEvent> events);
+
+    List<ChatEvent> decode(byte[] payload);
+}
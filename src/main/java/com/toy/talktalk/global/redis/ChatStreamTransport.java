@@ -0,0 +1,267 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.cluster.ClusterNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Redis Streams 전송 (chat.redis.transport=stream) — Pub/Sub 과 달리 노드가 잠시 멈추거나 재연결해도 이벤트 유실 없음
+// 채팅방을 샤드 스트림(chat:stream:{shard})에 나눠 XADD MAXLEN ~ 로 길이 제한
+// 노드마다 자기 nodeId 이름의 consumer group 으로 전체 샤드를 XREADGROUP 1회로 묶어 읽고, 로컬 전달 후 XACK
+// 전달에 실패한 이벤트도 ACK (버리고 집계) — pending 에 남기면 재시작마다 같은 이벤트에서 다시 실패
+// consumer 가 stale-group-ms 이상 읽지 않은 다른 노드의 group 은 주기적으로 삭제 (제거 / 이름이 바뀐 노드)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatStreamTransport {
+
+    private static final String STREAM_KEY_PREFIX = "chat:stream:";
+    private static final byte[] ROOM_FIELD = "r".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_FIELD = "e".getBytes(StandardCharsets.UTF_8);
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final ClusterNode clusterNode;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.redis.transport:pubsub}")
+    private String transport;
+
+    @Value("${chat.redis.stream.shards:16}")
+    private int shards;
+
+    @Value("${chat.redis.stream.max-len:100000}")
+    private long maxLen;
+
+    @Value("${chat.redis.stream.batch-size:256}")
+    private int batchSize;
+
+    @Value("${chat.redis.stream.block-ms:2000}")
+    private long blockMillis;
+
+    @Value("${chat.redis.stream.stale-group-ms:3600000}")
+    private long staleGroupMillis;
+
+    @Value("${chat.cluster.node-name:}")
+    private String nodeName;
+
+    @Value("${chat.cluster.routing-enabled:false}")
+    private boolean routingEnabled;
+
+    private byte[][] streamKeys;
+    private Counter undeliverableCounter;
+    private long nextStaleGroupCheckAt;
+    private Thread readThread;
+    private volatile boolean running;
+
+    // 라우팅 모드가 켜져 있으면 라우팅 모드가 우선 — 스트림은 읽지도 쓰지도 않음
+    public boolean isEnabled() {
+        return "stream".equals(transport) && !routingEnabled;
+    }
+
+    @PostConstruct
+    void start() {
+        undeliverableCounter = meterRegistry.counter("chat.redis.stream.undeliverable");
+        if (!isEnabled()) {
+            return;
+        }
+        // UUID 로 기동하면 재시작마다 consumer group 이 새로 생겨 이어 읽지 못하고 이전 group 이 남음
+        if (!StringUtils.hasText(nodeName)) {
+            throw new IllegalStateException("chat.redis.transport=stream 은 chat.cluster.node-name 설정 필요");
+        }
+        streamKeys = new byte[shards][];
+        for (int shard = 0; shard < shards; shard++) {
+            streamKeys[shard] = (STREAM_KEY_PREFIX + shard).getBytes(StandardCharsets.UTF_8);
+        }
+        createGroups();
+        running = true;
+        readThread = new Thread(this::runReadLoop, "chat-stream-reader");
+        readThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (readThread == null) {
+            return;
+        }
+        running = false;
+        readThread.join(blockMillis + TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public void publish(Long roomId, byte[] payload) {
+        ByteRecord record = StreamRecords.rawBytes(Map.of(
+                ROOM_FIELD, String.valueOf(roomId).getBytes(StandardCharsets.UTF_8),
+                EVENT_FIELD, payload
+        )).withStreamKey(streamKey(roomId));
+        binaryRedisTemplate.execute((RedisCallback<RecordId>) connection -> connection.streamCommands()
+                .xAdd(record, XAddOptions.maxlen(maxLen).approximateTrimming(true)));
+    }
+
+    byte[] streamKey(Long roomId) {
+        return (STREAM_KEY_PREFIX + RoomIdHash.bucket(roomId, shards)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 처음 만들 때는 현재 끝($)부터, 이미 있으면(BUSYGROUP) 마지막 전달 위치를 그대로 사용
+    private void createGroups() {
+        for (byte[] streamKey : streamKeys) {
+            try {
+                binaryRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                        .xGroupCreate(streamKey, clusterNode.getNodeId(), ReadOffset.latest(), true));
+            } catch (DataAccessException e) {
+                String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                if (cause == null || !cause.contains("BUSYGROUP")) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 시작 시 이전 실행에서 받고 ACK 하지 못한 pending 이벤트(0)부터 처리한 뒤 새 이벤트(>)를 대기
+    private void runReadLoop() {
+        boolean pendingDrained = false;
+        while (running) {
+            try {
+                destroyStaleGroupsIfDue();
+                if (!pendingDrained) {
+                    pendingDrained = handle(read(ReadOffset.from("0"), false)) == 0;
+                } else {
+                    handle(read(ReadOffset.lastConsumed(), true));
+                }
+            } catch (RuntimeException e) {
+                log.error("스트림 읽기 실패: {}", e.getMessage());
+                if (!sleepBeforeRetry()) {
+                    break;
+                }
+                createGroups();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ByteRecord> read(ReadOffset offset, boolean block) {
+        StreamOffset<byte[]>[] offsets = Arrays.stream(streamKeys)
+                .map(key -> StreamOffset.create(key, offset))
+                .toArray(StreamOffset[]::new);
+        StreamReadOptions options = StreamReadOptions.empty().count(batchSize);
+        if (block) {
+            options = options.block(Duration.ofMillis(blockMillis));
+        }
+        StreamReadOptions readOptions = options;
+        Consumer consumer = Consumer.from(clusterNode.getNodeId(), clusterNode.getNodeId());
+        List<ByteRecord> records = binaryRedisTemplate.execute(
+                (RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands().xReadGroup(consumer, readOptions, offsets));
+        return records != null ? records : List.of();
+    }
+
+    // 로컬 전달 후 스트림별로 묶어 XACK — 전달 도중 종료되면 다음 시작 시 pending 으로 다시 전달 (at-least-once)
+    int handle(List<ByteRecord> records) {
+        Map<String, List<RecordId>> recordIdsByStream = new LinkedHashMap<>();
+        for (ByteRecord record : records) {
+            deliver(record);
+            recordIdsByStream.computeIfAbsent(new String(record.getStream(), StandardCharsets.UTF_8), key -> new ArrayList<>())
+                    .add(record.getId());
+        }
+        recordIdsByStream.forEach((streamKey, recordIds) -> binaryRedisTemplate.execute(
+                (RedisCallback<Long>) connection -> connection.streamCommands().xAck(
+                        streamKey.getBytes(StandardCharsets.UTF_8), clusterNode.getNodeId(), recordIds.toArray(RecordId[]::new))));
+        return records.size();
+    }
+
+    private void deliver(ByteRecord record) {
+        byte[] roomId = field(record, ROOM_FIELD);
+        byte[] payload = field(record, EVENT_FIELD);
+        try {
+            if (roomId == null || payload == null) {
+                throw new IllegalArgumentException("필드 누락");
+            }
+            redisSubscriptionManager.deliverStreamEvent(Long.parseLong(new String(roomId, StandardCharsets.UTF_8)), payload);
+        } catch (RuntimeException e) {
+            undeliverableCounter.increment();
+            log.error("스트림 이벤트 전달 실패, ACK 후 버림: stream={}, id={}",
+                    new String(record.getStream(), StandardCharsets.UTF_8), record.getId(), e);
+        }
+    }
+
+    private void destroyStaleGroupsIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextStaleGroupCheckAt) {
+            return;
+        }
+        nextStaleGroupCheckAt = now + staleGroupMillis;
+        for (byte[] streamKey : streamKeys) {
+            destroyStaleGroups(streamKey);
+        }
+    }
+
+    // 모든 consumer 가 staleGroupMillis 이상 XREADGROUP 하지 않은 group — 살아 있는 노드는 block-ms 마다 읽음
+    void destroyStaleGroups(byte[] streamKey) {
+        XInfoGroups groups = binaryRedisTemplate.execute(
+                (RedisCallback<XInfoGroups>) connection -> connection.streamCommands().xInfoGroups(streamKey));
+        if (groups == null) {
+            return;
+        }
+        groups.forEach(group -> {
+            String groupName = group.groupName();
+            if (groupName.equals(clusterNode.getNodeId()) || group.consumerCount() == 0) {
+                return;
+            }
+            XInfoConsumers consumers = binaryRedisTemplate.execute((RedisCallback<XInfoConsumers>) connection ->
+                    connection.streamCommands().xInfoConsumers(streamKey, groupName));
+            if (consumers == null || consumers.stream().anyMatch(consumer -> consumer.idleTimeMs() < staleGroupMillis)) {
+                return;
+            }
+            binaryRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.streamCommands().xGroupDestroy(streamKey, groupName));
+            log.info("오래된 consumer group 삭제: stream={}, group={}", new String(streamKey, StandardCharsets.UTF_8), groupName);
+        });
+    }
+
+    private static byte[] field(ByteRecord record, byte[] name) {
+        for (Map.Entry<byte[], byte[]> entry : record.getValue().entrySet()) {
+            if (Arrays.equals(entry.getKey(), name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean sleepBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_DELAY_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+
+import java.util.List;
+
+// 발행은 설정된 형식으로, 수신은 첫 바이트로 형식을 판별 — JSON ↔ 바이너리 전환 배포 중 노드가 섞여 있어도 수신 가능
+public class DelegatingChatEventCodec implements ChatEventCodec {
+
+    private final ChatEventCodec writeCodec;
+    private final JsonChatEventCodec jsonCodec;
+    private final BinaryChatEventCodec binaryCodec;
+
+    public DelegatingChatEventCodec(ChatEventCodec writeCodec, JsonChatEventCodec jsonCodec, BinaryChatEventCodec binaryCodec) {
+        this.writeCodec = writeCodec;
+        this.jsonCodec = jsonCodec;
+        this.binaryCodec = binaryCodec;
+    }
+
+    @Override
+    public byte[] encode(ChatEvent event) {
+        return writeCodec.encode(event);
+    }
+
+    @Override
+    public byte[] encodeBatch(List<ChatEvent> events) {
+        return writeCodec.encodeBatch(events);
+    }
+
+    @Override
+    public List<ChatEvent> decode(byte[] payload) {
+        if (payload.length > 0 && payload[0] == BinaryChatEventCodec.FORMAT_VERSION) {
+            return binaryCodec.decode(payload);
+        }
+        return jsonCodec.decode(payload);
+    }
+}
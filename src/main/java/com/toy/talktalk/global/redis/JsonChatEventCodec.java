@@ -0,0 +1,71 @@
+package com.toy.talktalk.global.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+// 기존 JSON 형식 — 단건은 객체, 묶음은 배열 (eventType 으로 하위 타입 구분)
+public class JsonChatEventCodec implements ChatEventCodec {
+
+    private static final TypeReference<List<ChatEvent>> EVENT_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+    private final ObjectWriter batchWriter;
+
+    public JsonChatEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(ChatEvent.class);
+        this.batchWriter = objectMapper.writerFor(EVENT_LIST_TYPE);
+    }
+
+    @Override
+    public byte[] encode(ChatEvent event) {
+        try {
+            return eventWriter.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] encodeBatch(List<ChatEvent> events) {
+        try {
+            return batchWriter.writeValueAsBytes(events);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<ChatEvent> decode(byte[] payload) {
+        try {
+            if (firstNonWhitespace(payload) == '[') {
+                return objectMapper.readValue(payload, EVENT_LIST_TYPE);
+            }
+            return List.of(objectMapper.readValue(payload, ChatEvent.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 단건 JSON 객체 여부 (바이너리 / 묶음 배열이 아님)
+    public static boolean isSingleEvent(byte[] payload) {
+        return firstNonWhitespace(payload) == '{';
+    }
+
+    private static byte firstNonWhitespace(byte[] payload) {
+        for (byte b : payload) {
+            if (!Character.isWhitespace(b)) {
+                return b;
+            }
+        }
+        return 0;
+    }
+}
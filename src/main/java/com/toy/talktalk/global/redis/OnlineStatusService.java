@@ -4,8 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+// chat.presence.mode
+//   set(기본)  — 전역 Set online:users (세션 하나만 끊겨도 오프라인, 죽은 노드의 항목은 남음 — 비교용으로 유지)
+//   session   — 유저 / 노드별 세션 수 + heartbeat TTL (SessionPresenceRegistry)
 @Service
 @RequiredArgsConstructor
 public class OnlineStatusService {
@@ -13,21 +19,57 @@ public class OnlineStatusService {
     private static final String ONLINE_USERS_KEY = "online:users";
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final SessionPresenceRegistry sessionPresenceRegistry;
 
-    public void markOnline(Long userId) {
+    // STOMP CONNECT
+    public void markOnline(Long userId, String sessionId) {
+        if (sessionPresenceRegistry.isEnabled()) {
+            sessionPresenceRegistry.sessionOpened(userId, sessionId);
+            return;
+        }
         redisTemplate.opsForSet().add(ONLINE_USERS_KEY, String.valueOf(userId));
     }
 
-    public void markOffline(Long userId) {
+    // STOMP 연결 해제 — session 모드에서는 유저의 마지막 세션일 때만 오프라인
+    public void markOffline(Long userId, String sessionId) {
+        if (sessionPresenceRegistry.isEnabled()) {
+            sessionPresenceRegistry.sessionClosed(sessionId);
+            return;
+        }
         redisTemplate.opsForSet().remove(ONLINE_USERS_KEY, String.valueOf(userId));
     }
 
     public boolean isOnline(Long userId) {
+        if (sessionPresenceRegistry.isEnabled()) {
+            return sessionPresenceRegistry.onlineUserIds(Set.of(userId)).contains(userId);
+        }
         return Boolean.TRUE.equals(
                 redisTemplate.opsForSet().isMember(ONLINE_USERS_KEY, String.valueOf(userId)));
     }
 
+    // 주어진 유저 중 온라인인 유저 — set 모드 SMISMEMBER 1회, session 모드 노드별 BITFIELD 파이프라인 1회
+    public Set<Long> getOnlineUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        if (sessionPresenceRegistry.isEnabled()) {
+            return sessionPresenceRegistry.onlineUserIds(userIds);
+        }
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(
+                ONLINE_USERS_KEY, userIds.stream().map(String::valueOf).toArray());
+        if (members == null) {
+            return Set.of();
+        }
+        return members.entrySet().stream()
+                .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                .map(entry -> Long.valueOf(String.valueOf(entry.getKey())))
+                .collect(Collectors.toSet());
+    }
+
     public Set<String> getOnlineUserIds() {
+        if (sessionPresenceRegistry.isEnabled()) {
+            return sessionPresenceRegistry.allOnlineUserIds();
+        }
         return redisTemplate.opsForSet().members(ONLINE_USERS_KEY);
     }
 }
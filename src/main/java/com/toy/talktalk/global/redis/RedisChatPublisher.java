@@ -1,6 +1,9 @@
 package com.toy.talktalk.global.redis;
 
 import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.global.cluster.ClusterNode;
+import com.toy.talktalk.global.cluster.NodeInboxPublisher;
+import com.toy.talktalk.global.cluster.RoomRouteRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -11,9 +14,45 @@ public class RedisChatPublisher {
 
     private static final String CHAT_TOPIC_PREFIX = "chat:room:";
 
-    private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final ChatEventCodec chatEventCodec;
+    private final ChatStreamTransport chatStreamTransport;
+    private final RoomRouteRegistry roomRouteRegistry;
+    private final NodeInboxPublisher nodeInboxPublisher;
+    private final RedisSubscriptionManager redisSubscriptionManager;
+    private final RedisChatSubscriber redisChatSubscriber;
+    private final ClusterNode clusterNode;
 
     public void publish(Long roomId, ChatEvent event) {
-        objectRedisTemplate.convertAndSend(CHAT_TOPIC_PREFIX + roomId, event);
+        if (!roomRouteRegistry.isEnabled() && chatStreamTransport.isEnabled()) {
+            chatStreamTransport.publish(roomId, chatEventCodec.encode(event));
+            return;
+        }
+        if (!roomRouteRegistry.isEnabled()) {
+            binaryRedisTemplate.convertAndSend(CHAT_TOPIC_PREFIX + roomId, chatEventCodec.encode(event));
+            return;
+        }
+        publishRouted(roomId, event);
+    }
+
+    // 휘발성 신호(입력 중 등) — 저장되는 스트림 대신 항상 채팅방 채널 또는 노드 inbox 로, 구독자가 있는 노드만 수신
+    public void publishSignal(Long roomId, ChatEvent event) {
+        if (!roomRouteRegistry.isEnabled()) {
+            binaryRedisTemplate.convertAndSend(CHAT_TOPIC_PREFIX + roomId, chatEventCodec.encode(event));
+            return;
+        }
+        publishRouted(roomId, event);
+    }
+
+    // 라우팅 모드 — 로컬 구독자는 Redis 를 거치지 않고 바로 전달, 다른 노드는 구독자가 있는 노드 inbox 로만 전송
+    private void publishRouted(Long roomId, ChatEvent event) {
+        if (redisSubscriptionManager.hasLocalSubscribers(roomId)) {
+            redisChatSubscriber.deliver(event);
+        }
+        for (String nodeId : roomRouteRegistry.nodesFor(roomId)) {
+            if (!nodeId.equals(clusterNode.getNodeId())) {
+                nodeInboxPublisher.send(nodeId, event);
+            }
+        }
     }
 }
@@ -1,38 +1,103 @@
 package com.toy.talktalk.global.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toy.talktalk.domain.chat.dto.ChatEvent;
 import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceResponse;
 import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
+import com.toy.talktalk.global.websocket.BinaryStompBody;
+import com.toy.talktalk.global.websocket.SlowConsumerGuard;
+import com.toy.talktalk.global.websocket.WebSocketTransportTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.Message;
-import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RedisChatSubscriber implements MessageListener {
+public class RedisChatSubscriber {
 
     private static final String STOMP_TOPIC_PREFIX = "/sub/room/";
+    // 휘발성 신호(입력 중 등) / 온라인 상태 변경은 채팅방 하위 destination 으로 분리
+    private static final String SIGNAL_TOPIC_SUFFIX = "/signals";
+    // Jackson 은 타입 속성을 먼저 쓰므로 접두어로 읽음 확인 이벤트 판별
+    private static final byte[] READ_ACK_PREFIX = "{\"eventType\":\"READ_ACK\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_PREFIX = "{\"eventType\":\"MESSAGE\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIGNAL_PREFIX = "{\"eventType\":\"SIGNAL\"".getBytes(StandardCharsets.UTF_8);
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final ObjectMapper objectMapper;
+    private final ChatEventCodec chatEventCodec;
+    private final JsonChatEventCodec jsonChatEventCodec;
+    private final BinaryChatEventCodec binaryChatEventCodec = new BinaryChatEventCodec();
 
-    @Override
-    public void onMessage(Message message, byte[] pattern) {
-        try {
-            ChatEvent event = objectMapper.readValue(message.getBody(), ChatEvent.class);
+    // 순수 WebSocket 세션의 바이너리 본문 요청 허용 (WebSocketTransportTracker)
+    @Value("${chat.websocket.native.binary-body:false}")
+    private boolean binaryBodyEnabled;
 
-            if (event instanceof ChatMessageResponse chatMessage) {
-                messagingTemplate.convertAndSend(STOMP_TOPIC_PREFIX + chatMessage.roomId(), chatMessage);
-            } else if (event instanceof ReadAckResponse readAck) {
-                messagingTemplate.convertAndSend(STOMP_TOPIC_PREFIX + readAck.roomId(), readAck);
+    // 채팅방 채널 — JSON 단건이면 STOMP 페이로드와 같은 형식이므로 역직렬화 없이 그대로 전달
+    public void deliverRoomPayload(Long roomId, byte[] body) {
+        if (JsonChatEventCodec.isSingleEvent(body)) {
+            if (startsWith(body, SIGNAL_PREFIX)) {
+                send(STOMP_TOPIC_PREFIX + roomId + SIGNAL_TOPIC_SUFFIX, body, true, null);
+                return;
             }
-        } catch (Exception e) {
+            BinaryStompBody binaryBody = binaryBodyEnabled && startsWith(body, MESSAGE_PREFIX)
+                    ? new BinaryStompBody(() -> binaryChatEventCodec.encodeBatch(jsonChatEventCodec.decode(body)))
+                    : null;
+            send(STOMP_TOPIC_PREFIX + roomId, body, startsWith(body, READ_ACK_PREFIX), binaryBody);
+            return;
+        }
+        decode(body).forEach(this::deliver);
+    }
+
+    // 채팅방 채널(단건) / 노드 inbox(묶음) 공통 — 실패 시 빈 목록
+    public List<ChatEvent> decode(byte[] body) {
+        try {
+            return chatEventCodec.decode(body);
+        } catch (RuntimeException e) {
             log.error("Redis 메시지 역직렬화 실패: {}", e.getMessage());
+            return List.of();
         }
     }
+
+    // 로컬 STOMP 구독자에게 전달 — 직렬화는 1회, 구독 세션들은 같은 byte[] 를 공유
+    public void deliver(ChatEvent event) {
+        if (event instanceof ChatSignalResponse || event instanceof PresenceResponse) {
+            send(STOMP_TOPIC_PREFIX + event.roomId() + SIGNAL_TOPIC_SUFFIX, jsonChatEventCodec.encode(event), true, null);
+            return;
+        }
+        BinaryStompBody binaryBody = binaryBodyEnabled && event instanceof ChatMessageResponse
+                ? new BinaryStompBody(() -> binaryChatEventCodec.encode(event))
+                : null;
+        send(STOMP_TOPIC_PREFIX + event.roomId(), jsonChatEventCodec.encode(event), event instanceof ReadAckResponse, binaryBody);
+    }
+
+    // 읽음 확인 / 휘발성 신호는 느린 세션에서 버려도 되는 이벤트 (SlowConsumerGuard)
+    // 채팅 메시지는 바이너리 세션용 대체 본문을 함께 실어 보냄 — 실제 인코딩은 바이너리 세션이 받을 때 1회
+    private void send(String destination, byte[] json, boolean droppable, BinaryStompBody binaryBody) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (droppable) {
+            accessor.setHeader(SlowConsumerGuard.DROPPABLE_HEADER, true);
+        }
+        if (binaryBody != null) {
+            accessor.setHeader(WebSocketTransportTracker.BINARY_BODY_HEADER, binaryBody);
+        }
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    private static boolean startsWith(byte[] body, byte[] prefix) {
+        return body.length >= prefix.length && Arrays.equals(body, 0, prefix.length, prefix, 0, prefix.length);
+    }
 }
@@ -1,29 +1,258 @@
 package com.toy.talktalk.global.redis;
 
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.global.cluster.ClusterNode;
+import com.toy.talktalk.global.cluster.NodeInboxPublisher;
+import com.toy.talktalk.global.cluster.RoomRouteRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+// 채팅방 Redis 채널 구독을 로컬 STOMP 구독 수로 참조 카운팅
+// 0 이 되면 grace 기간 후 채널 해제 (잠깐 나갔다 들어오는 경우 재구독 방지)
+// 라우팅 모드(chat.cluster.routing-enabled)에서는 채널 대신 라우팅 테이블에 등록하고 노드 inbox 채널 하나만 구독
+// 스트림 전송(chat.redis.transport=stream, 라우팅 모드 아닐 때)에서는 채널을 구독하지 않고 로컬 구독 수만 관리
+// (휘발성 신호(chat.signal.enabled)를 쓰면 신호 전용으로 채팅방 채널도 구독)
+// 참조 카운트 / 구독 여부 결정은 전역 락 안에서, Redis I/O(채널 구독, 라우팅 등록)는 락 밖에서 채팅방별 락으로 직렬화
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisSubscriptionManager {
 
     private static final String CHAT_TOPIC_PREFIX = "chat:room:";
+    private static final int ROOM_IO_LOCK_STRIPES = 64;
 
     private final RedisMessageListenerContainer listenerContainer;
     private final RedisChatSubscriber redisChatSubscriber;
+    private final RoomEventDispatcher roomEventDispatcher;
+    private final RoomRouteRegistry roomRouteRegistry;
+    private final ClusterNode clusterNode;
+    private final MeterRegistry meterRegistry;
 
+    @Value("${chat.redis.subscription-grace-ms:30000}")
+    private long releaseGraceMillis;
+
+    @Value("${chat.redis.transport:pubsub}")
+    private String transport;
+
+    @Value("${chat.signal.enabled:false}")
+    private boolean signalEnabled;
+
+    // 변경은 synchronized 블록에서만, 조회(onRoomMessage)는 락 없이
+    private final Map<Long, Integer> subscriberCounts = new ConcurrentHashMap<>();
+    private final Set<Long> desiredRooms = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<String, Long>> roomIdsBySession = new HashMap<>();
+    private final Map<Long, ScheduledFuture<?>> pendingReleases = new HashMap<>();
+
+    // 실제로 구독 / 라우팅 등록된 채팅방 — roomIoLock 안에서만 변경
     private final Map<Long, ChannelTopic> subscribedRooms = new ConcurrentHashMap<>();
+    private final Object[] roomIoLocks = new Object[ROOM_IO_LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < roomIoLocks.length; i++) {
+            roomIoLocks[i] = new Object();
+        }
+    }
+
+    private final MessageListener roomListener = this::onRoomMessage;
+    private final MessageListener inboxListener = this::onInboxMessage;
+    private final ScheduledExecutorService releaseScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-subscription-release");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("chat.redis.subscribed.channels", subscribedRooms, Map::size);
+        meterRegistry.gauge("chat.redis.local.rooms", subscriberCounts, Map::size);
+        droppedCounter = meterRegistry.counter("chat.redis.messages.dropped");
+    }
+
+    @PostConstruct
+    void subscribeInbox() {
+        if (roomRouteRegistry.isEnabled()) {
+            listenerContainer.addMessageListener(
+                    inboxListener, new ChannelTopic(NodeInboxPublisher.inboxChannel(clusterNode.getNodeId())));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        releaseScheduler.shutdownNow();
+    }
+
+    // STOMP SUBSCRIBE — 세션의 subscriptionId 단위로 카운트
+    // 채널 구독 / 라우팅 등록은 락 밖에서 마친 뒤 반환 (다른 세션이 구독 중이면 채팅방 락에서 완료를 기다림)
+    public void acquire(String sessionId, String subscriptionId, Long roomId) {
+        boolean needsSubscription;
+        boolean added;
+        synchronized (this) {
+            Long previous = roomIdsBySession.computeIfAbsent(sessionId, id -> new HashMap<>())
+                    .put(subscriptionId, roomId);
+            if (previous != null) {
+                decrement(previous);
+            }
+
+            subscriberCounts.merge(roomId, 1, Integer::sum);
+            ScheduledFuture<?> pendingRelease = pendingReleases.remove(roomId);
+            if (pendingRelease != null) {
+                pendingRelease.cancel(false);
+            }
+            needsSubscription = needsRoomSubscription();
+            added = needsSubscription && desiredRooms.add(roomId);
+        }
+        if (!needsSubscription) {
+            return;
+        }
+        try {
+            syncRoomSubscription(roomId);
+        } catch (RuntimeException e) {
+            // 다음 SUBSCRIBE 에서 다시 시도하도록 구독 의도를 되돌림
+            if (added) {
+                synchronized (this) {
+                    desiredRooms.remove(roomId);
+                }
+            }
+            throw e;
+        }
+    }
+
+    // STOMP UNSUBSCRIBE
+    public synchronized void release(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = roomIdsBySession.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            roomIdsBySession.remove(sessionId);
+        }
+        if (roomId != null) {
+            decrement(roomId);
+        }
+    }
+
+    // 연결 해제 — 세션의 모든 구독 반납
+    public synchronized void releaseSession(String sessionId) {
+        Map<String, Long> subscriptions = roomIdsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    // 라우팅 모드는 스트림 설정과 무관하게 라우팅 등록 필요 (발행 노드가 inbox 로만 보냄)
+    private boolean needsRoomSubscription() {
+        return roomRouteRegistry.isEnabled() || !"stream".equals(transport) || signalEnabled;
+    }
+
+    public boolean hasLocalSubscribers(Long roomId) {
+        return subscriberCounts.containsKey(roomId);
+    }
+
+    // 로컬 구독자가 있는 채팅방 (읽기 전용 view)
+    public Set<Long> localRoomIds() {
+        return Collections.unmodifiableSet(subscriberCounts.keySet());
+    }
+
+    private void decrement(Long roomId) {
+        Integer remaining = subscriberCounts.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null && desiredRooms.contains(roomId) && !pendingReleases.containsKey(roomId)) {
+            pendingReleases.put(roomId, releaseScheduler.schedule(
+                    () -> releaseIfIdle(roomId), releaseGraceMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    void releaseIfIdle(Long roomId) {
+        synchronized (this) {
+            pendingReleases.remove(roomId);
+            if (subscriberCounts.containsKey(roomId) || !desiredRooms.remove(roomId)) {
+                return;
+            }
+        }
+        try {
+            syncRoomSubscription(roomId);
+        } catch (RuntimeException e) {
+            log.warn("Redis 채널 구독 해제 실패 roomId={}", roomId, e);
+        }
+    }
+
+    // 구독 의도(desiredRooms)와 실제 상태(subscribedRooms)를 맞춤 — 채팅방별 락으로 I/O 순서 보장
+    // 호출 시점의 최신 의도를 읽으므로 구독 / 해제 요청이 엇갈려도 마지막 의도로 수렴
+    private void syncRoomSubscription(Long roomId) {
+        synchronized (roomIoLocks[RoomIdHash.bucket(roomId, roomIoLocks.length)]) {
+            boolean desired = desiredRooms.contains(roomId);
+            ChannelTopic subscribed = subscribedRooms.get(roomId);
+            if (desired && subscribed == null) {
+                ChannelTopic topic = new ChannelTopic(CHAT_TOPIC_PREFIX + roomId);
+                if (roomRouteRegistry.isEnabled()) {
+                    roomRouteRegistry.register(roomId);
+                } else {
+                    listenerContainer.addMessageListener(roomListener, topic);
+                }
+                subscribedRooms.put(roomId, topic);
+            } else if (!desired && subscribed != null) {
+                subscribedRooms.remove(roomId);
+                if (roomRouteRegistry.isEnabled()) {
+                    roomRouteRegistry.unregister(roomId);
+                } else {
+                    listenerContainer.removeMessageListener(roomListener, subscribed);
+                }
+                log.debug("Redis 채널 구독 해제: {}", subscribed.getTopic());
+            }
+        }
+    }
+
+    // grace 기간 중 도착한 메시지는 역직렬화 없이 버림
+    private void onRoomMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long roomId = Long.parseLong(channel.substring(CHAT_TOPIC_PREFIX.length()));
+        if (!hasLocalSubscribers(roomId)) {
+            droppedCounter.increment();
+            return;
+        }
+        byte[] body = message.getBody();
+        roomEventDispatcher.dispatch(roomId, () -> redisChatSubscriber.deliverRoomPayload(roomId, body));
+    }
+
+    // 스트림 전송으로 받은 채팅방 이벤트 — 전달 완료 후 XACK 해야 하므로 lane 을 거치지 않고 읽기 스레드에서 전달
+    public void deliverStreamEvent(Long roomId, byte[] payload) {
+        if (!hasLocalSubscribers(roomId)) {
+            droppedCounter.increment();
+            return;
+        }
+        redisChatSubscriber.deliverRoomPayload(roomId, payload);
+    }
 
-    public void subscribeRoom(Long roomId) {
-        if (!subscribedRooms.containsKey(roomId)) {
-            ChannelTopic topic = new ChannelTopic(CHAT_TOPIC_PREFIX + roomId);
-            listenerContainer.addMessageListener(redisChatSubscriber, topic);
-            subscribedRooms.put(roomId, topic);
+    private void onInboxMessage(Message message, byte[] pattern) {
+        for (ChatEvent event : redisChatSubscriber.decode(message.getBody())) {
+            if (hasLocalSubscribers(event.roomId())) {
+                roomEventDispatcher.dispatch(event.roomId(), () -> redisChatSubscriber.deliver(event));
+            } else {
+                droppedCounter.increment();
+            }
         }
     }
 }
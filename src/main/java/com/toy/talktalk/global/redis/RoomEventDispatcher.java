@@ -0,0 +1,156 @@
+package com.toy.talktalk.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Redis 수신 이벤트를 roomId 해시(RoomIdHash — snowflake id 의 bit 를 섞음)로 고정된 단일 스레드 lane 에 분배
+// 같은 채팅방은 항상 같은 lane 이므로 순서 유지, 채팅방끼리는 병렬 전달 (느린 채팅방이 다른 채팅방을 막지 않음)
+// 호출 스레드는 리스너 스레드 — block 정책도 block-timeout-ms 까지만 기다림 (종료 후에는 바로 버림)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomEventDispatcher {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.redis.dispatch.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.redis.dispatch.lanes:8}")
+    private int laneCount;
+
+    @Value("${chat.redis.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${chat.redis.dispatch.overflow-policy:drop}")
+    private String overflowPolicyName;
+
+    @Value("${chat.redis.dispatch.block-timeout-ms:1000}")
+    private long blockTimeoutMillis;
+
+    private Lane[] lanes;
+    private OverflowPolicy overflowPolicy;
+    private Timer lagTimer;
+    private Counter overflowCounter;
+    private volatile boolean running;
+
+    // lane 큐가 가득 찼을 때
+    public enum OverflowPolicy {
+        BLOCK,       // block-timeout-ms 까지 리스너 스레드 대기 후 버림 (대기 중에는 순서 유지)
+        DROP,        // 버림
+        CALLER_RUNS  // 리스너 스레드에서 바로 전달 (해당 이벤트는 채팅방 내 순서가 바뀔 수 있음)
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        overflowPolicy = OverflowPolicy.valueOf(overflowPolicyName.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        lagTimer = meterRegistry.timer("chat.dispatch.lag");
+        overflowCounter = meterRegistry.counter("chat.dispatch.overflow", "policy", overflowPolicy.name().toLowerCase(Locale.ROOT));
+        running = true;
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<DispatchTask> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Lane lane = new Lane(queue, new Thread(() -> runLane(queue), "chat-dispatch-" + i));
+            Gauge.builder("chat.dispatch.queue.depth", lane.queue(), BlockingQueue::size)
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lanes[i] = lane;
+        }
+        for (Lane lane : lanes) {
+            lane.thread().start();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (lanes == null) {
+            return;
+        }
+        running = false;
+        for (Lane lane : lanes) {
+            lane.thread().join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // 비활성화 시 호출 스레드에서 바로 실행
+    public void dispatch(Long roomId, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return;
+        }
+        Lane lane = lanes[RoomIdHash.bucket(roomId, lanes.length)];
+        DispatchTask dispatchTask = new DispatchTask(task, System.nanoTime());
+        if (!running) {
+            log.debug("dispatch 종료 후 이벤트 버림: roomId={}", roomId);
+            return;
+        }
+        if (lane.queue().offer(dispatchTask)) {
+            return;
+        }
+
+        overflowCounter.increment();
+        switch (overflowPolicy) {
+            case BLOCK -> enqueueBlocking(lane, dispatchTask);
+            case CALLER_RUNS -> run(dispatchTask);
+            case DROP -> log.debug("dispatch lane 가득 참 — 이벤트 버림: roomId={}", roomId);
+        }
+    }
+
+    private void enqueueBlocking(Lane lane, DispatchTask dispatchTask) {
+        try {
+            if (!lane.queue().offer(dispatchTask, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("dispatch lane {}ms 대기 후에도 가득 참 — 이벤트 버림", blockTimeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("dispatch 대기 중 인터럽트 — 이벤트 버림");
+        }
+    }
+
+    private void runLane(BlockingQueue<DispatchTask> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                DispatchTask dispatchTask = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (dispatchTask != null) {
+                    run(dispatchTask);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private void run(DispatchTask dispatchTask) {
+        lagTimer.record(System.nanoTime() - dispatchTask.enqueuedAt(), TimeUnit.NANOSECONDS);
+        try {
+            dispatchTask.task().run();
+        } catch (RuntimeException e) {
+            log.error("채팅 이벤트 전달 실패", e);
+        }
+    }
+
+    private record Lane(BlockingQueue<DispatchTask> queue, Thread thread) {
+    }
+
+    private record DispatchTask(Runnable task, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.toy.talktalk.global.redis;
+
+// roomId → 버킷(스트림 샤드 / dispatch lane) 번호
+// snowflake id 는 하위 bit 가 밀리초 내 sequence(대부분 0)와 노드 id 라 그대로 나머지를 구하면 한 버킷에 몰림
+// → SplitMix64 finalizer 로 모든 bit 를 섞은 뒤 나머지
+final class RoomIdHash {
+
+    private RoomIdHash() {
+    }
+
+    static int bucket(long roomId, int buckets) {
+        return (int) Long.remainderUnsigned(mix(roomId), buckets);
+    }
+
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
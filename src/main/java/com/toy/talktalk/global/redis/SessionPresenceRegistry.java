@@ -0,0 +1,273 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.cluster.ClusterNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 세션 수 기반 온라인 상태 (chat.presence.mode=session)
+// 노드가 userId → 로컬 세션 수를 세고, 유저별 변경만 Redis 의 노드 키에 반영
+//   presence:bitmap:{nodeId}   — userId 번째 bit = 이 노드에 세션 있음 (대량 조회는 노드당 BITFIELD GET 1회)
+//   presence:sessions:{nodeId} — Hash { userId: 이 노드의 세션 수 }
+//   presence:nodes             — ZSet { nodeId: 만료 시각 }
+// 노드 키 TTL 과 만료 시각은 heartbeat 로 연장 — 노드가 죽으면 TTL 후 자동 정리, 조회는 만료 전 노드만
+// 세션 수 갱신은 메모리에서만, Redis 기록은 presence-redis 스레드 하나가 변경된 유저의 최신 값으로 (last-value-wins)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionPresenceRegistry {
+
+    private static final String NODES_KEY = "presence:nodes";
+    private static final String BITMAP_KEY_PREFIX = "presence:bitmap:";
+    private static final String SESSIONS_KEY_PREFIX = "presence:sessions:";
+    private static final BitFieldSubCommands.BitFieldType ONE_BIT = BitFieldSubCommands.BitFieldType.unsigned(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClusterNode clusterNode;
+
+    @Value("${chat.presence.mode:set}")
+    private String mode;
+
+    @Value("${chat.presence.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${chat.presence.heartbeat-interval-ms:10000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${chat.presence.node-cache-ms:1000}")
+    private long nodeCacheMillis;
+
+    private final Map<String, Long> userIdsBySession = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> localSessionCounts = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    private volatile CachedNodes cachedNodes = new CachedNodes(List.of(), 0);
+    private volatile ScheduledExecutorService presenceScheduler;
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        presenceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "presence-redis");
+            thread.setDaemon(true);
+            return thread;
+        });
+        presenceScheduler.scheduleAtFixedRate(this::heartbeat, 0, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 정상 종료 시에는 TTL 을 기다리지 않고 바로 정리
+    @PreDestroy
+    void stop() {
+        if (presenceScheduler == null) {
+            return;
+        }
+        presenceScheduler.shutdownNow();
+        try {
+            redisTemplate.delete(List.of(bitmapKey(clusterNode.getNodeId()), sessionsKey(clusterNode.getNodeId())));
+            redisTemplate.opsForZSet().remove(NODES_KEY, clusterNode.getNodeId());
+        } catch (RuntimeException e) {
+            log.warn("온라인 상태 정리 실패 — TTL 후 만료: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return "session".equals(mode);
+    }
+
+    // 같은 세션의 중복 CONNECT 는 한 번만 센다
+    public void sessionOpened(Long userId, String sessionId) {
+        if (sessionId == null || userIdsBySession.putIfAbsent(sessionId, userId) != null) {
+            return;
+        }
+        localSessionCounts.merge(userId, 1, Integer::sum);
+        markDirty(userId);
+    }
+
+    // 유저의 다른 세션(다른 기기 / 다른 노드)이 남아 있으면 온라인 유지
+    public void sessionClosed(String sessionId) {
+        Long userId = sessionId != null ? userIdsBySession.remove(sessionId) : null;
+        if (userId == null) {
+            return;
+        }
+        localSessionCounts.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        markDirty(userId);
+    }
+
+    public int localSessionCount(Long userId) {
+        return localSessionCounts.getOrDefault(userId, 0);
+    }
+
+    // 주어진 유저 중 온라인인 유저 — 살아 있는 노드별 BITFIELD GET 을 파이프라인 1회로
+    public Set<Long> onlineUserIds(Collection<Long> userIds) {
+        List<String> nodeIds = liveNodeIds();
+        if (userIds.isEmpty() || nodeIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = List.copyOf(userIds);
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (Long id : ids) {
+            commands = commands.get(ONE_BIT).valueAt(id);
+        }
+        BitFieldSubCommands bitFieldCommands = commands;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String nodeId : nodeIds) {
+                connection.stringCommands().bitField(bytes(bitmapKey(nodeId)), bitFieldCommands);
+            }
+            return null;
+        });
+
+        Set<Long> online = new HashSet<>();
+        for (Object result : results) {
+            if (result instanceof List<?> bits) {
+                for (int i = 0; i < bits.size() && i < ids.size(); i++) {
+                    if (bits.get(i) instanceof Long bit && bit == 1L) {
+                        online.add(ids.get(i));
+                    }
+                }
+            }
+        }
+        return online;
+    }
+
+    // 전체 온라인 유저 — 노드별 Hash 키 목록 합집합 (운영 / 비교용, 대량 조회는 onlineUserIds(userIds))
+    public Set<String> allOnlineUserIds() {
+        Set<String> online = new HashSet<>();
+        for (String nodeId : liveNodeIds()) {
+            redisTemplate.opsForHash().keys(sessionsKey(nodeId)).forEach(key -> online.add(String.valueOf(key)));
+        }
+        return online;
+    }
+
+    // 전체 노드의 세션 수 합
+    public long sessionCount(Long userId) {
+        List<String> nodeIds = liveNodeIds();
+        byte[] field = bytes(String.valueOf(userId));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String nodeId : nodeIds) {
+                connection.hashCommands().hGet(bytes(sessionsKey(nodeId)), field);
+            }
+            return null;
+        });
+        return results.stream()
+                .filter(result -> result != null)
+                .mapToLong(result -> Long.parseLong(String.valueOf(result)))
+                .sum();
+    }
+
+    void heartbeat() {
+        try {
+            String nodeId = clusterNode.getNodeId();
+            long now = System.currentTimeMillis();
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zAdd(bytes(NODES_KEY), now + ttlMillis, bytes(nodeId));
+                connection.zSetCommands().zRemRangeByScore(bytes(NODES_KEY), Double.NEGATIVE_INFINITY, now);
+                connection.keyCommands().pExpire(bytes(bitmapKey(nodeId)), ttlMillis);
+                connection.keyCommands().pExpire(bytes(sessionsKey(nodeId)), ttlMillis);
+                return null;
+            });
+            // 노드 키가 사라진 경우 (TTL 초과 지연 / Redis 재시작) 로컬 세션 수로 다시 기록
+            if (!Boolean.TRUE.equals(results.get(2)) && !localSessionCounts.isEmpty()) {
+                log.warn("온라인 상태 노드 키 유실 — 로컬 세션 {}명 재기록", localSessionCounts.size());
+                dirtyUserIds.addAll(localSessionCounts.keySet());
+            }
+        } catch (RuntimeException e) {
+            log.warn("온라인 상태 heartbeat 실패: {}", e.getMessage());
+        }
+        // 기록 실패로 남아 있는 유저 재시도
+        flushPending();
+    }
+
+    // 처음 변경된 유저만 기록 작업 예약 — 이미 대기 중이면 그 작업이 최신 값을 기록
+    private void markDirty(Long userId) {
+        ScheduledExecutorService scheduler = presenceScheduler;
+        if (dirtyUserIds.add(userId) && scheduler != null) {
+            try {
+                scheduler.execute(this::flushPending);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 — 노드 키는 stop() 에서 삭제
+            }
+        }
+    }
+
+    // presence-redis 스레드에서만 실행 — 기록 시점의 로컬 세션 수를 쓰므로 순서가 바뀌어도 마지막 값이 남음
+    // 실패하면 dirty 로 되돌리고 다음 heartbeat 에서 재시도 (Redis 장애 중 유저마다 시도하지 않도록 바로 중단)
+    void flushPending() {
+        for (Long userId : dirtyUserIds) {
+            if (!dirtyUserIds.remove(userId)) {
+                continue;
+            }
+            try {
+                write(userId, localSessionCounts.getOrDefault(userId, 0));
+            } catch (RuntimeException e) {
+                dirtyUserIds.add(userId);
+                log.warn("온라인 상태 기록 실패 — 다음 heartbeat 에서 재시도 (대기 {}명): {}", dirtyUserIds.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void write(Long userId, int sessionCount) {
+        String nodeId = clusterNode.getNodeId();
+        byte[] field = bytes(String.valueOf(userId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] bitmapKey = bytes(bitmapKey(nodeId));
+            byte[] sessionsKey = bytes(sessionsKey(nodeId));
+            if (sessionCount > 0) {
+                connection.hashCommands().hSet(sessionsKey, field, bytes(String.valueOf(sessionCount)));
+                connection.stringCommands().setBit(bitmapKey, userId, true);
+            } else {
+                connection.hashCommands().hDel(sessionsKey, field);
+                connection.stringCommands().setBit(bitmapKey, userId, false);
+            }
+            connection.keyCommands().pExpire(bitmapKey, ttlMillis);
+            connection.keyCommands().pExpire(sessionsKey, ttlMillis);
+            return null;
+        });
+    }
+
+    private List<String> liveNodeIds() {
+        long now = System.currentTimeMillis();
+        CachedNodes cached = cachedNodes;
+        if (cached.expiresAt() > now) {
+            return cached.nodeIds();
+        }
+        Set<String> nodeIds = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+        List<String> result = nodeIds == null ? List.of() : List.copyOf(nodeIds);
+        cachedNodes = new CachedNodes(result, now + nodeCacheMillis);
+        return result;
+    }
+
+    private static String bitmapKey(String nodeId) {
+        return BITMAP_KEY_PREFIX + nodeId;
+    }
+
+    private static String sessionsKey(String nodeId) {
+        return SESSIONS_KEY_PREFIX + nodeId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record CachedNodes(List<String> nodeIds, long expiresAt) {
+    }
+}
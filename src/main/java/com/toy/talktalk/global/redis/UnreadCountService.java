@@ -1,32 +1,71 @@
 package com.toy.talktalk.global.redis;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UnreadCountService {
 
     private static final String UNREAD_KEY_PREFIX = "unread:";
+    private static final String USER_UNREAD_KEY_PREFIX = "unread:user:";
+    private static final RedisScript<Long> INCREMENT_UNREAD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/increment_unread.lua"), Long.class);
+    private static final RedisScript<Long> BACKFILL_USER_UNREAD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/backfill_user_unread.lua"), Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
 
     // 채팅방의 발신자를 제외한 모든 멤버 unread +1
-    public void incrementUnread(Long roomId, Long senderId, List<Long> memberIds) {
-        String key = UNREAD_KEY_PREFIX + roomId;
-        memberIds.stream()
-                .filter(memberId -> !memberId.equals(senderId))
-                .forEach(memberId ->
-                        redisTemplate.opsForHash().increment(key, String.valueOf(memberId), 1));
+    public void incrementUnread(Long roomId, Long senderId, long[] memberIds) {
+        incrementUnread(roomId, Map.of(senderId, 1L), memberIds);
+    }
+
+    // 같은 채팅방의 여러 메시지를 한 번에 반영 — 멤버별로 (전체 메시지 수 - 본인이 보낸 수) 만큼 증가
+    // Lua 스크립트 1회 호출로 unread:{roomId} 와 unread:user:{userId} 를 함께 갱신
+    public void incrementUnread(Long roomId, Map<Long, Long> messageCountBySender, long[] memberIds) {
+        if (memberIds.length == 0 || messageCountBySender.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(1 + memberIds.length);
+        keys.add(UNREAD_KEY_PREFIX + roomId);
+        for (long memberId : memberIds) {
+            keys.add(USER_UNREAD_KEY_PREFIX + memberId);
+        }
+
+        long totalCount = messageCountBySender.values().stream().mapToLong(Long::longValue).sum();
+        List<String> args = new ArrayList<>(3 + messageCountBySender.size() * 2 + memberIds.length);
+        args.add(String.valueOf(roomId));
+        args.add(String.valueOf(totalCount));
+        args.add(String.valueOf(messageCountBySender.size()));
+        messageCountBySender.forEach((senderId, count) -> {
+            args.add(String.valueOf(senderId));
+            args.add(String.valueOf(count));
+        });
+        for (long memberId : memberIds) {
+            args.add(String.valueOf(memberId));
+        }
+
+        redisTemplate.execute(INCREMENT_UNREAD_SCRIPT, keys, args.toArray());
     }
 
     // 채팅방 입장 시 해당 유저 unread 초기화
     public void resetUnread(Long roomId, Long userId) {
-        String key = UNREAD_KEY_PREFIX + roomId;
-        redisTemplate.opsForHash().delete(key, String.valueOf(userId));
+        redisTemplate.opsForHash().delete(UNREAD_KEY_PREFIX + roomId, String.valueOf(userId));
+        redisTemplate.opsForHash().delete(USER_UNREAD_KEY_PREFIX + userId, String.valueOf(roomId));
     }
 
     // 특정 유저의 특정 채팅방 unread 수 조회
@@ -35,4 +74,32 @@ public class UnreadCountService {
         Object value = redisTemplate.opsForHash().get(key, String.valueOf(userId));
         return value == null ? 0L : Long.parseLong(value.toString());
     }
+
+    // 유저의 전체 채팅방 unread 수를 HGETALL 1회로 조회 { roomId: count }
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(USER_UNREAD_KEY_PREFIX + userId);
+        Map<Long, Long> unreadCounts = new HashMap<>(entries.size());
+        entries.forEach((roomId, count) ->
+                unreadCounts.put(Long.parseLong(roomId.toString()), Long.parseLong(count.toString())));
+        return unreadCounts;
+    }
+
+    // 기존 unread:{roomId} 레이아웃에서 unread:user:{userId} 인덱스를 채운다 (멱등, 채팅방 단위 원자적)
+    public long backfillUserIndex() {
+        long roomCount = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(UNREAD_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.startsWith(USER_UNREAD_KEY_PREFIX)) {
+                    continue;
+                }
+                String roomId = key.substring(UNREAD_KEY_PREFIX.length());
+                redisTemplate.execute(BACKFILL_USER_UNREAD_SCRIPT, List.of(key), roomId, USER_UNREAD_KEY_PREFIX);
+                roomCount++;
+            }
+        }
+        log.info("unread 유저 인덱스 backfill 완료: rooms={}", roomCount);
+        return roomCount;
+    }
 }
@@ -0,0 +1,21 @@
+package com.toy.talktalk.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// chat.unread.backfill-on-startup=true 로 기동한 인스턴스 하나에서 1회 실행
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.unread.backfill-on-startup", havingValue = "true")
+public class UnreadIndexBackfillRunner implements ApplicationRunner {
+
+    private final UnreadCountService unreadCountService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        unreadCountService.backfillUserIndex();
+    }
+}
@@ -0,0 +1,90 @@
+package com.toy.talktalk.global.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 가상 스레드 모드에서 carrier 스레드 pinning(synchronized 블록 / native 호출 중 블로킹)을 JFR 이벤트로 감지
+// jdk.VirtualThreadPinned 이벤트마다 스택을 로그로 남기고 최상위 애플리케이션 / 라이브러리 프레임별로 chat.vthread.pinned{frame} 카운트
+// frame 태그는 JDK 내부 프레임(java.* / jdk.* / sun.*) 을 건너뛴 class.method (줄 번호 제외 — 태그 카디널리티 제한)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final List<String> JDK_PACKAGE_PREFIXES = List.of("java.", "jdk.", "sun.");
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.virtual-threads.pinning-threshold-ms:20}")
+    private long thresholdMillis;
+
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    void start() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (임계값 {}ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String topFrame = stackTrace == null ? "unknown" : stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("unknown");
+        meterRegistry.counter("chat.vthread.pinned", "frame", topFrame).increment();
+        log.warn("가상 스레드 pinning {}ms\n{}", event.getDuration().toMillis(), describe(stackTrace));
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(stack trace 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + describe(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        return JDK_PACKAGE_PREFIXES.stream().anyMatch(className::startsWith);
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,24 @@
+package com.toy.talktalk.global.websocket;
+
+import java.util.function.Supplier;
+
+// 바이너리 본문을 요청한 세션용 대체 페이로드 — 메시지 헤더로 전달되어 브로커가 세션별로 복사해도 같은 인스턴스를 공유
+// 처음 필요한 세션에서 한 번만 인코딩 (바이너리 세션이 없으면 인코딩하지 않음)
+public final class BinaryStompBody {
+
+    private final Supplier<byte[]> encoder;
+    private volatile byte[] body;
+
+    public BinaryStompBody(Supplier<byte[]> encoder) {
+        this.encoder = encoder;
+    }
+
+    public byte[] get() {
+        byte[] result = body;
+        if (result == null) {
+            result = encoder.get();
+            body = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package com.toy.talktalk.global.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// simple broker 의 구독 registry 를 채팅방 전용 색인으로 교체 (chat.websocket.indexed-subscriptions)
+// /sub/room/{roomId} 는 roomId → 구독 스냅샷(불변 배열 + 캐시한 조회 결과)으로 정확히 일치 조회, 메시지마다 패턴 매칭 / 할당 없음
+// 구독 추가 / 해제는 채팅방 단위 CAS 로 스냅샷 교체 (전역 락 없음)
+// 그 밖의 destination(/user 변환 목적지 등)은 기존 DefaultSubscriptionRegistry 로 처리
+public class ChatSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/room/";
+    private static final MultiValueMap<String, String> NO_SUBSCRIPTIONS =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final Map<Long, RoomSubscriptions> rooms = new ConcurrentHashMap<>();
+    // 세션 → (subscriptionId → roomId), 해제 시 채팅방을 찾기 위한 역색인
+    private final Map<String, Map<String, Long>> roomIdsBySession = new ConcurrentHashMap<>();
+    private final DefaultSubscriptionRegistry fallback = new DefaultSubscriptionRegistry();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination, Message<?> message) {
+        Long roomId = parseRoomId(destination);
+        if (roomId == null) {
+            removeRoomSubscription(sessionId, subscriptionId);
+            fallback.registerSubscription(message);
+            return;
+        }
+        // 같은 subscriptionId 로 다시 SUBSCRIBE — 같은 채팅방이면 무시, 다른 채팅방이면 이전 채팅방에서 제거 (DefaultSubscriptionRegistry 와 같은 교체 동작)
+        Long previous = roomIdsBySession.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, roomId);
+        if (roomId.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            removeFromRoom(previous, sessionId, subscriptionId);
+        }
+        while (!rooms.computeIfAbsent(roomId, id -> new RoomSubscriptions()).add(sessionId, subscriptionId)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, Long> subscriptions = roomIdsBySession.get(sessionId);
+        Long roomId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (roomId == null) {
+            fallback.unregisterSubscription(message);
+            return;
+        }
+        removeFromRoom(roomId, sessionId, subscriptionId);
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, Long> subscriptions = roomIdsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, roomId) -> removeFromRoom(roomId, sessionId, subscriptionId));
+        }
+        fallback.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        Long roomId = parseRoomId(destination);
+        if (roomId == null) {
+            return fallback.findSubscriptions(message);
+        }
+        RoomSubscriptions subscriptions = rooms.get(roomId);
+        return subscriptions != null ? subscriptions.snapshot.get().subscriptions() : NO_SUBSCRIPTIONS;
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    private void removeRoomSubscription(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = roomIdsBySession.get(sessionId);
+        Long roomId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (roomId != null) {
+            removeFromRoom(roomId, sessionId, subscriptionId);
+        }
+    }
+
+    private void removeFromRoom(Long roomId, String sessionId, String subscriptionId) {
+        RoomSubscriptions subscriptions = rooms.get(roomId);
+        if (subscriptions != null && subscriptions.remove(sessionId, subscriptionId)) {
+            rooms.remove(roomId, subscriptions);
+        }
+    }
+
+    private Long parseRoomId(String destination) {
+        if (!destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination, ROOM_DESTINATION_PREFIX.length(), destination.length(), 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 채팅방 구독 목록 — 변경 시 스냅샷 전체를 새로 만들어 CAS 로 교체 (조회는 스냅샷을 그대로 반환)
+    private static final class RoomSubscriptions {
+
+        // 마지막 구독이 빠져 map 에서 제거된 상태 — 이후 추가는 새 RoomSubscriptions 로
+        private static final Snapshot RETIRED = new Snapshot(new String[0], new String[0]);
+
+        private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(new String[0], new String[0]));
+
+        // 제거된(RETIRED) 인스턴스면 false
+        boolean add(String sessionId, String subscriptionId) {
+            while (true) {
+                Snapshot current = snapshot.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                if (snapshot.compareAndSet(current, current.with(sessionId, subscriptionId))) {
+                    return true;
+                }
+            }
+        }
+
+        // 마지막 구독이 빠져 RETIRED 가 되면 true
+        boolean remove(String sessionId, String subscriptionId) {
+            while (true) {
+                Snapshot current = snapshot.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                Snapshot next = current.without(sessionId, subscriptionId);
+                if (next == current) {
+                    return false;
+                }
+                Snapshot replacement = next.isEmpty() ? RETIRED : next;
+                if (snapshot.compareAndSet(current, replacement)) {
+                    return replacement == RETIRED;
+                }
+            }
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final String[] sessionIds;
+        private final String[] subscriptionIds;
+        // 첫 조회 시 한 번 만들어 재사용 (동시에 만들어져도 내용은 같음) — 구독이 몰려도 변경마다 만들지 않음
+        private volatile MultiValueMap<String, String> subscriptions;
+
+        Snapshot(String[] sessionIds, String[] subscriptionIds) {
+            this.sessionIds = sessionIds;
+            this.subscriptionIds = subscriptionIds;
+        }
+
+        MultiValueMap<String, String> subscriptions() {
+            MultiValueMap<String, String> result = subscriptions;
+            if (result == null) {
+                LinkedMultiValueMap<String, String> map = new LinkedMultiValueMap<>(sessionIds.length);
+                for (int i = 0; i < sessionIds.length; i++) {
+                    map.add(sessionIds[i], subscriptionIds[i]);
+                }
+                result = CollectionUtils.unmodifiableMultiValueMap(map);
+                subscriptions = result;
+            }
+            return result;
+        }
+
+        boolean isEmpty() {
+            return sessionIds.length == 0;
+        }
+
+        Snapshot with(String sessionId, String subscriptionId) {
+            int size = sessionIds.length;
+            String[] nextSessionIds = Arrays.copyOf(sessionIds, size + 1);
+            String[] nextSubscriptionIds = Arrays.copyOf(subscriptionIds, size + 1);
+            nextSessionIds[size] = sessionId;
+            nextSubscriptionIds[size] = subscriptionId;
+            return new Snapshot(nextSessionIds, nextSubscriptionIds);
+        }
+
+        Snapshot without(String sessionId, String subscriptionId) {
+            for (int i = 0; i < sessionIds.length; i++) {
+                if (sessionIds[i].equals(sessionId) && subscriptionIds[i].equals(subscriptionId)) {
+                    String[] nextSessionIds = new String[sessionIds.length - 1];
+                    String[] nextSubscriptionIds = new String[sessionIds.length - 1];
+                    System.arraycopy(sessionIds, 0, nextSessionIds, 0, i);
+                    System.arraycopy(sessionIds, i + 1, nextSessionIds, i, sessionIds.length - i - 1);
+                    System.arraycopy(subscriptionIds, 0, nextSubscriptionIds, 0, i);
+                    System.arraycopy(subscriptionIds, i + 1, nextSubscriptionIds, i, subscriptionIds.length - i - 1);
+                    return new Snapshot(nextSessionIds, nextSubscriptionIds);
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.toy.talktalk.global.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 순수 WebSocket 엔드포인트(/ws-native)의 permessage-deflate 협상
+// deflate 비활성 시 클라이언트가 요청해도 확장을 빼고, no-context-takeover 설정 시 서버 압축 문맥을 메시지마다 초기화
+// (세션당 압축 창 메모리 ↔ 압축률 trade-off, 실제 압축은 컨테이너(Tomcat)의 확장 구현이 처리)
+public class NativeWebSocketHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+
+    private final boolean deflateEnabled;
+    private final boolean serverNoContextTakeover;
+
+    public NativeWebSocketHandshakeHandler(boolean deflateEnabled, boolean serverNoContextTakeover) {
+        this.deflateEnabled = deflateEnabled;
+        this.serverNoContextTakeover = serverNoContextTakeover;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        return super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions).stream()
+                .filter(extension -> deflateEnabled || !isDeflate(extension))
+                .map(this::tune)
+                .toList();
+    }
+
+    private WebSocketExtension tune(WebSocketExtension extension) {
+        if (!serverNoContextTakeover || !isDeflate(extension)
+                || extension.getParameters().containsKey(SERVER_NO_CONTEXT_TAKEOVER)) {
+            return extension;
+        }
+        // 값 없는 파라미터 (RFC 7692 — 클라이언트가 요청하지 않아도 서버가 선택 가능)
+        Map<String, String> parameters = new HashMap<>(extension.getParameters());
+        parameters.put(SERVER_NO_CONTEXT_TAKEOVER, null);
+        return new WebSocketExtension(extension.getName(), parameters);
+    }
+
+    private boolean isDeflate(WebSocketExtension extension) {
+        return PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName());
+    }
+}
@@ -0,0 +1,226 @@
+package com.toy.talktalk.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 세션별 송신 대기량으로 느린 클라이언트 감지
+// 대기 바이트 = 송신 채널에 들어온 메시지 중 아직 소켓 쓰기가 끝나지 않은 양 (Spring 세션 버퍼 + 쓰기 중)
+// 느린 세션은 정책에 따라 비필수 이벤트(읽음 확인 등)를 버리거나, 재동기화 안내와 함께 연결 종료
+// Spring 의 세션별 버퍼 덕분에 느린 세션의 쓰기가 다른 세션 전송을 막지는 않음 — 여기서는 버퍼가 커지는 것을 제한
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    // 버려도 되는 이벤트 표시 (브로커가 구독 세션별 메시지로 복사)
+    public static final String DROPPABLE_HEADER = "chat-droppable";
+    // 클라이언트는 재연결 후 POST /api/rooms/sync 로 누락분 동기화
+    public static final CloseStatus SLOW_CONSUMER_CLOSE = new CloseStatus(4001, "SLOW_CONSUMER resume=/api/rooms/sync");
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.outbound.slow-buffered-bytes:131072}")
+    private long slowBufferedBytes;
+
+    @Value("${chat.websocket.outbound.slow-send-ms:2000}")
+    private long slowSendMillis;
+
+    @Value("${chat.websocket.outbound.slow-consumer-policy:drop-non-critical}")
+    private String policyName;
+
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    // 종료 처리(close frame 전송)가 송신 채널 스레드를 막지 않도록 별도 스레드에서
+    private final ExecutorService closeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slow-consumer-close");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SlowConsumerPolicy policy;
+    private DistributionSummary sessionBufferedBytes;
+    private Counter droppedCounter;
+    private Counter slowDisconnectCounter;
+    private Counter limitDisconnectCounter;
+
+    public enum SlowConsumerPolicy {
+        DROP_NON_CRITICAL,  // 비필수 이벤트만 버리고 유지 (송신 버퍼 한도 초과 시 Spring 이 종료)
+        DISCONNECT          // 재동기화 안내와 함께 즉시 종료
+    }
+
+    @PostConstruct
+    void init() {
+        policy = SlowConsumerPolicy.valueOf(policyName.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        meterRegistry.gauge("chat.websocket.outbound.buffered.bytes", sessions,
+                map -> map.values().stream().mapToLong(TrackedSession::bufferedBytes).sum());
+        meterRegistry.gauge("chat.websocket.slow.sessions", sessions,
+                map -> map.values().stream().filter(this::isSlow).count());
+        sessionBufferedBytes = DistributionSummary.builder("chat.websocket.outbound.session.buffered.bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        droppedCounter = meterRegistry.counter("chat.websocket.outbound.dropped");
+        slowDisconnectCounter = meterRegistry.counter("chat.websocket.slow.disconnects", "reason", "policy");
+        limitDisconnectCounter = meterRegistry.counter("chat.websocket.slow.disconnects", "reason", "limit");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closeExecutor.shutdownNow();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession trackedSession = new TrackedSession(session);
+                sessions.put(session.getId(), trackedSession);
+                super.afterConnectionEstablished(trackedSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                // 송신 시간 / 버퍼 한도 초과로 Spring 이 종료한 경우
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    limitDisconnectCounter.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // clientOutboundChannel — 세션 버퍼에 들어가기 전
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        TrackedSession session = sessionOf(message);
+        if (session == null) {
+            return message;
+        }
+        sessionBufferedBytes.record(session.bufferedBytes());
+
+        if (isSlow(session)) {
+            if (policy == SlowConsumerPolicy.DISCONNECT) {
+                disconnect(session);
+                return null;
+            }
+            if (Boolean.TRUE.equals(message.getHeaders().get(DROPPABLE_HEADER))) {
+                droppedCounter.increment();
+                return null;
+            }
+        }
+        session.enqueued(payloadSize(message));
+        return message;
+    }
+
+    // 채널로 보내지 못한 경우 (세션 종료 등) 대기량에서 제외
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            TrackedSession session = sessionOf(message);
+            if (session != null) {
+                session.discarded();
+            }
+        }
+    }
+
+    boolean isSlow(TrackedSession session) {
+        long sendStartedAt = session.sendStartedAt;
+        return session.bufferedBytes() >= slowBufferedBytes
+                || (sendStartedAt != 0 && System.nanoTime() - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(slowSendMillis));
+    }
+
+    private TrackedSession sessionOf(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private void disconnect(TrackedSession session) {
+        if (sessions.remove(session.getId()) == null) {
+            return;
+        }
+        slowDisconnectCounter.increment();
+        log.warn("느린 WebSocket 세션 종료: sessionId={}, bufferedBytes={}", session.getId(), session.bufferedBytes());
+        closeExecutor.execute(() -> {
+            try {
+                session.close(SLOW_CONSUMER_CLOSE);
+            } catch (IOException e) {
+                log.debug("느린 세션 종료 실패: sessionId={}", session.getId(), e);
+            }
+        });
+    }
+
+    private int payloadSize(Message<?> message) {
+        return message.getPayload() instanceof byte[] payload ? payload.length : 0;
+    }
+
+    // Spring 이 이 세션을 ConcurrentWebSocketSessionDecorator 로 한 번 더 감싸므로 sendMessage 는 실제 소켓 쓰기 시점에만 호출됨
+    static final class TrackedSession extends WebSocketSessionDecorator {
+
+        private final Queue<Integer> pendingSizes = new ConcurrentLinkedQueue<>();
+        private final AtomicLong bufferedBytes = new AtomicLong();
+        private volatile long sendStartedAt;
+
+        TrackedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            sendStartedAt = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedAt = 0;
+                Integer size = pendingSizes.poll();
+                if (size != null) {
+                    bufferedBytes.addAndGet(-size);
+                }
+            }
+        }
+
+        void enqueued(int size) {
+            pendingSizes.add(size);
+            bufferedBytes.addAndGet(size);
+        }
+
+        void discarded() {
+            Integer size = pendingSizes.poll();
+            if (size != null) {
+                bufferedBytes.addAndGet(-size);
+            }
+        }
+
+        long bufferedBytes() {
+            return bufferedBytes.get();
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.toy.talktalk.global.websocket;
 
+import com.toy.talktalk.domain.chat.service.ChatRoomMembershipCache;
+import com.toy.talktalk.domain.chat.service.PresenceBroadcaster;
 import com.toy.talktalk.global.exception.BusinessException;
 import com.toy.talktalk.global.jwt.JwtProvider;
-import com.toy.talktalk.global.redis.OnlineStatusService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -11,11 +12,11 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.security.Principal;
 
 @Slf4j
 @Component
@@ -23,9 +24,13 @@ import java.util.List;
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/room/";
+    private static final String SIGNAL_DESTINATION_SUFFIX = "/signals";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
 
     private final JwtProvider jwtProvider;
-    private final OnlineStatusService onlineStatusService;
+    private final PresenceBroadcaster presenceBroadcaster;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -40,14 +45,10 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
                 String token = authHeader.substring(BEARER_PREFIX.length());
                 try {
-                    jwtProvider.validateToken(token);
-                    Long userId = jwtProvider.extractUserId(token);
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userId, null,
-                                    List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                    UsernamePasswordAuthenticationToken authentication = jwtProvider.authenticate(token);
+                    Long userId = (Long) authentication.getPrincipal();
                     accessor.setUser(authentication);
-                    onlineStatusService.markOnline(userId);
+                    presenceBroadcaster.connected(userId, accessor.getSessionId());
                     log.debug("WebSocket connected: userId={}", userId);
                 } catch (BusinessException e) {
                     log.debug("WebSocket JWT authentication failed: {}", e.getMessage());
@@ -55,6 +56,69 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             }
         }
 
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscription(accessor);
+        }
+
+        // 유휴 판정용 활동 시각
+        if (StompCommand.SEND.equals(accessor.getCommand()) && accessor.getUser() != null) {
+            presenceBroadcaster.touch(Long.parseLong(accessor.getUser().getName()));
+        }
+
         return message;
     }
+
+    // 구독은 기본 거부 — 채팅방(/sub/room/{roomId}, /sub/room/{roomId}/signals)은 해당 방 멤버만, 그 밖에는 /user 목적지만 허용
+    // simple broker 의 기본 registry 는 패턴 구독을 지원하므로 *, ?, { 가 들어간 경로는 모두 거부 (/sub/** 로 전체 수신 방지)
+    // 예외 시 클라이언트에 ERROR 프레임 전송
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null || containsPattern(destination)) {
+            throw new AccessDeniedException("허용되지 않는 구독 경로입니다: " + destination);
+        }
+
+        Principal principal = accessor.getUser();
+        if (principal == null) {
+            throw new AccessDeniedException("인증되지 않은 구독 요청입니다.");
+        }
+
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            return;
+        }
+        if (!destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            throw new AccessDeniedException("허용되지 않는 구독 경로입니다: " + destination);
+        }
+
+        int end = destination.endsWith(SIGNAL_DESTINATION_SUFFIX)
+                ? destination.length() - SIGNAL_DESTINATION_SUFFIX.length()
+                : destination.length();
+        long roomId = parseRoomId(destination, end);
+
+        if (!chatRoomMembershipCache.isMember(roomId, Long.parseLong(principal.getName()))) {
+            throw new AccessDeniedException("채팅방 멤버가 아닙니다. roomId=" + roomId);
+        }
+    }
+
+    // 숫자만 허용 (부호 / 공백 / 추가 경로 거부)
+    private static long parseRoomId(String destination, int end) {
+        int start = ROOM_DESTINATION_PREFIX.length();
+        if (start == end || end - start > 19) {
+            throw new AccessDeniedException("잘못된 구독 경로입니다: " + destination);
+        }
+        for (int i = start; i < end; i++) {
+            char c = destination.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new AccessDeniedException("잘못된 구독 경로입니다: " + destination);
+            }
+        }
+        try {
+            return Long.parseLong(destination, start, end, 10);
+        } catch (NumberFormatException e) {
+            throw new AccessDeniedException("잘못된 구독 경로입니다: " + destination);
+        }
+    }
+
+    private static boolean containsPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
 }
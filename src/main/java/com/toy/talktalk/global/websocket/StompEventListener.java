@@ -2,8 +2,8 @@ package com.toy.talktalk.global.websocket;
 
 import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
 import com.toy.talktalk.domain.chat.service.ChatMessageService;
+import com.toy.talktalk.domain.chat.service.PresenceBroadcaster;
 import com.toy.talktalk.domain.user.repository.UserRepository;
-import com.toy.talktalk.global.redis.OnlineStatusService;
 import com.toy.talktalk.global.redis.RedisChatPublisher;
 import com.toy.talktalk.global.redis.RedisSubscriptionManager;
 import com.toy.talktalk.global.redis.UnreadCountService;
@@ -14,6 +14,7 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 import java.security.Principal;
 
@@ -23,11 +24,12 @@ import java.security.Principal;
 public class StompEventListener {
 
     private static final String ROOM_DESTINATION_PREFIX = "/sub/room/";
+    private static final String SIGNAL_DESTINATION_SUFFIX = "/signals";
 
     private final ChatMessageService chatMessageService;
     private final RedisChatPublisher redisChatPublisher;
     private final RedisSubscriptionManager redisSubscriptionManager;
-    private final OnlineStatusService onlineStatusService;
+    private final PresenceBroadcaster presenceBroadcaster;
     private final UnreadCountService unreadCountService;
     private final UserRepository userRepository;
 
@@ -41,6 +43,14 @@ public class StompEventListener {
             return;
         }
 
+        // 휘발성 신호 구독 — 이 노드로 신호가 오도록 구독 수만 반영 (입장 메시지 / 읽음 처리 없음)
+        if (destination.startsWith(ROOM_DESTINATION_PREFIX) && destination.endsWith(SIGNAL_DESTINATION_SUFFIX)) {
+            Long roomId = Long.parseLong(destination.substring(
+                    ROOM_DESTINATION_PREFIX.length(), destination.length() - SIGNAL_DESTINATION_SUFFIX.length()));
+            redisSubscriptionManager.acquire(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+            return;
+        }
+
         if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
             Long roomId = extractRoomId(destination);
             Long userId = Long.parseLong(principal.getName());
@@ -48,7 +58,7 @@ public class StompEventListener {
                     .map(user -> user.getNickname())
                     .orElse("알 수 없음");
 
-            redisSubscriptionManager.subscribeRoom(roomId);
+            redisSubscriptionManager.acquire(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
             unreadCountService.resetUnread(roomId, userId);
 
             ChatMessageResponse systemMessage =
@@ -57,9 +67,17 @@ public class StompEventListener {
         }
     }
 
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        redisSubscriptionManager.release(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
     @EventListener
     public void handleDisconnect(SessionDisconnectEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        redisSubscriptionManager.releaseSession(event.getSessionId());
+
         Principal principal = accessor.getUser();
 
         if (principal == null) {
@@ -67,7 +85,7 @@ public class StompEventListener {
         }
 
         Long userId = Long.parseLong(principal.getName());
-        onlineStatusService.markOffline(userId);
+        presenceBroadcaster.disconnected(userId, event.getSessionId());
 
         String nickname = userRepository.findById(userId)
                 .map(user -> user.getNickname())
@@ -0,0 +1,185 @@
+package com.toy.talktalk.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 세션별 전송 방식(SockJS / 순수 WebSocket) 추적 — 전송 방식별 세션 수 / 송수신 메트릭과 바이너리 본문 협상
+// 순수 WebSocket 세션이 CONNECT 헤더 chat-body-encoding: binary 를 보내면 채팅 메시지 이벤트를 BinaryChatEventCodec 형식으로 전송
+// (content-type application/octet-stream → STOMP 가 binary frame 으로 전송, SockJS 는 text 만 가능하므로 JSON 유지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketTransportTracker implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    public static final String BODY_ENCODING_HEADER = "chat-body-encoding";
+    // 바이너리 대체 페이로드 (BinaryStompBody) — 채팅 메시지 이벤트에만 붙음
+    public static final String BINARY_BODY_HEADER = "chat-binary-body";
+
+    private static final String BINARY_ENCODING = "binary";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.websocket.native.binary-body:false}")
+    private boolean binaryBodyEnabled;
+
+    private final Map<String, TransportSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Transport, Counter> inboundMessages = new EnumMap<>(Transport.class);
+    private final Map<Transport, Counter> outboundMessages = new EnumMap<>(Transport.class);
+    private final Map<Transport, Counter> outboundBytes = new EnumMap<>(Transport.class);
+
+    public enum Transport {
+        SOCKJS,
+        NATIVE;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        for (Transport transport : Transport.values()) {
+            meterRegistry.gauge("chat.websocket.sessions", Tags.of("transport", transport.tag()),
+                    sessions, map -> map.values().stream().filter(session -> session.transport == transport).count());
+            inboundMessages.put(transport, meterRegistry.counter("chat.websocket.inbound.messages", "transport", transport.tag()));
+            outboundMessages.put(transport, meterRegistry.counter("chat.websocket.outbound.messages", "transport", transport.tag()));
+            outboundBytes.put(transport, meterRegistry.counter("chat.websocket.outbound.bytes", "transport", transport.tag()));
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new TransportSession(transportOf(session)));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // clientInboundChannel — 수신 카운트와 CONNECT 의 본문 형식 협상
+    private final ChannelInterceptor inboundInterceptor = new ChannelInterceptor() {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            TransportSession session = sessionOf(message);
+            if (session != null) {
+                inboundMessages.get(session.transport).increment();
+                negotiateBodyEncoding(session, message);
+            }
+            return message;
+        }
+    };
+
+    public ChannelInterceptor inboundInterceptor() {
+        return inboundInterceptor;
+    }
+
+    // clientOutboundChannel — 바이너리 본문을 요청한 세션이면 대체 페이로드로 교체
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        TransportSession session = sessionOf(message);
+        if (session == null || !session.binaryBody
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        return toBinary(message);
+    }
+
+    // 송신 채널에 실제로 들어간 메시지만 집계 (SlowConsumerGuard 가 버린 메시지 제외)
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        TransportSession session = sessionOf(message);
+        if (session != null) {
+            outboundMessages.get(session.transport).increment();
+            if (message.getPayload() instanceof byte[] payload) {
+                outboundBytes.get(session.transport).increment(payload.length);
+            }
+        }
+    }
+
+    private void negotiateBodyEncoding(TransportSession session, Message<?> message) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return;
+        }
+        String encoding = accessor.getFirstNativeHeader(BODY_ENCODING_HEADER);
+        session.binaryBody = binaryBodyEnabled
+                && session.transport == Transport.NATIVE
+                && BINARY_ENCODING.equalsIgnoreCase(encoding);
+    }
+
+    private Message<?> toBinary(Message<?> message) {
+        if (!(message.getHeaders().get(BINARY_BODY_HEADER) instanceof BinaryStompBody binaryBody)) {
+            return message;
+        }
+        byte[] body;
+        try {
+            body = binaryBody.get();
+        } catch (RuntimeException e) {
+            log.warn("바이너리 본문 인코딩 실패, JSON 으로 전송: {}", e.getMessage());
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.removeHeader(BINARY_BODY_HEADER);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private TransportSession sessionOf(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    // 다른 decorator(SlowConsumerGuard 등)가 감싼 세션도 원래 세션으로 판별
+    static Transport transportOf(WebSocketSession session) {
+        return WebSocketSessionDecorator.unwrap(session) instanceof SockJsSession ? Transport.SOCKJS : Transport.NATIVE;
+    }
+
+    private static final class TransportSession {
+
+        private final Transport transport;
+        private volatile boolean binaryBody;
+
+        TransportSession(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
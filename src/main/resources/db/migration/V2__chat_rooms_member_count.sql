@@ -0,0 +1,6 @@
+-- chat_rooms.member_count (비정규화 멤버 수) 추가 + 기존 채팅방은 chat_room_members 로 backfill
+-- V1 = 이 컬럼 이전의 기존 스키마 (baseline-on-migrate 로 기록)
+ALTER TABLE chat_rooms ADD COLUMN IF NOT EXISTS member_count INT NOT NULL DEFAULT 0;
+
+UPDATE chat_rooms cr
+   SET member_count = (SELECT COUNT(*) FROM chat_room_members m WHERE m.chat_room_id = cr.id);
@@ -0,0 +1,8 @@
+-- 기존 unread:{roomId} 값을 유저별 Hash 로 복사 (마이그레이션 1회성, 채팅방 단위 원자적)
+-- 유저 키는 채팅방 Hash 의 필드에서 결정되므로 KEYS 로 미리 선언하지 않는다 (단일 Redis 전제)
+-- KEYS[1] = unread:{roomId}, ARGV[1] = 채팅방 id, ARGV[2] = 유저 키 prefix
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+    redis.call('HSET', ARGV[2] .. entries[i], ARGV[1], entries[i + 1])
+end
+return #entries / 2
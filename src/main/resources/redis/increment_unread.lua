@@ -0,0 +1,24 @@
+-- 채팅방 unread 일괄 증가 (채팅방별 Hash + 유저별 Hash 동시 갱신)
+-- KEYS[1] = unread:{roomId}, KEYS[1 + k] = unread:user:{k번째 멤버 id}
+-- ARGV[1] = 채팅방 id, ARGV[2] = 전체 메시지 수, ARGV[3] = 발신자 수 n
+-- ARGV[4 .. 3 + 2n] = (발신자 id, 해당 발신자의 메시지 수) 쌍, 이후 = 멤버 id 목록 (KEYS 순서와 동일)
+local roomId = ARGV[1]
+local total = tonumber(ARGV[2])
+local senderCount = tonumber(ARGV[3])
+
+local sentBy = {}
+for i = 0, senderCount - 1 do
+    sentBy[ARGV[4 + i * 2]] = tonumber(ARGV[5 + i * 2])
+end
+
+local memberOffset = 4 + senderCount * 2
+for i = memberOffset, #ARGV do
+    local memberId = ARGV[i]
+    local increment = total - (sentBy[memberId] or 0)
+    if increment > 0 then
+        redis.call('HINCRBY', KEYS[1], memberId, increment)
+        redis.call('HINCRBY', KEYS[2 + i - memberOffset], roomId, increment)
+    end
+end
+
+return 1
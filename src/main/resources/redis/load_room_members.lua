@@ -0,0 +1,14 @@
+-- DB 에서 읽은 채팅방 멤버를 Redis 에 채움 — 읽기 시작 후 무효화(세대 증가)가 있었다면 채우지 않음
+-- KEYS[1] = room:members:{roomId}, KEYS[2] = room:members:gen:{roomId}
+-- ARGV[1] = DB 조회 전 읽은 세대, ARGV[2] = TTL(초), ARGV[3 ..] = 멤버 id
+-- 반환: 1 = 채움, 0 = 세대가 바뀌어 건너뜀
+local generation = redis.call('GET', KEYS[2]) or '0'
+if generation ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+for i = 3, #ARGV, 500 do
+    redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 499, #ARGV)))
+end
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 1
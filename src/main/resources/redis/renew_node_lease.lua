@@ -0,0 +1,13 @@
+-- 노드 id 임대 갱신 (소유자 확인과 TTL 연장을 원자적으로)
+-- KEYS[1] = id:node:{nodeId}, ARGV[1] = instanceId, ARGV[2] = TTL(ms)
+-- 반환: 1 = 갱신, 2 = 만료 후 재획득, 0 = 다른 인스턴스가 점유
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 2
+end
+return 0
@@ -0,0 +1,15 @@
+-- 채팅방 최근 메시지 캐시 갱신 — 같은 messageId(score) 의 기존 항목을 지우고 추가, 용량 초과분 제거
+-- TTL 은 새로 만든 키에만 설정 (갱신으로 연장하지 않음 → 캐시 전체 수명 상한)
+-- 직렬화가 달라진 같은 메시지(닉네임 변경 / 시각 정밀도 차이)가 중복 항목으로 남지 않도록 score 기준으로 교체
+-- KEYS[1] = room:history:{roomId}
+-- ARGV[1] = 용량, ARGV[2] = TTL(초), ARGV[3 ..] = (score, member) 쌍
+local key = KEYS[1]
+for i = 3, #ARGV, 2 do
+    redis.call('ZREMRANGEBYSCORE', key, ARGV[i], ARGV[i])
+    redis.call('ZADD', key, ARGV[i], ARGV[i + 1])
+end
+redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[1]) + 1))
+if redis.call('TTL', key) < 0 then
+    redis.call('EXPIRE', key, ARGV[2])
+end
+return 1
@@ -0,0 +1,92 @@
+package com.toy.talktalk.domain.chat.repository;
+
+import com.toy.talktalk.domain.chat.dto.ChatRoomSummary;
+import com.toy.talktalk.domain.chat.entity.ChatRoom;
+import com.toy.talktalk.domain.chat.entity.ChatRoomMember;
+import com.toy.talktalk.domain.chat.entity.ChatRoomType;
+import com.toy.talktalk.domain.user.entity.User;
+import com.toy.talktalk.global.config.IdGeneratorConfig;
+import com.toy.talktalk.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({IdGeneratorConfig.class, QuerydslConfig.class})
+class ChatRoomRepositoryTest {
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20})
+    @DisplayName("채팅방 목록 조회 - 방 개수와 무관하게 SQL 1회")
+    void findSummariesByUserId_singleStatement(int roomCount) {
+        // given
+        User me = persistUser("me@test.com");
+        User friend = persistUser("friend@test.com");
+        for (int i = 0; i < roomCount; i++) {
+            ChatRoom room = ChatRoom.builder().name("room" + i).type(ChatRoomType.GROUP).memberCount(2).build();
+            em.persist(room);
+            em.persist(ChatRoomMember.builder().chatRoom(room).user(me).build());
+            em.persist(ChatRoomMember.builder().chatRoom(room).user(friend).build());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<ChatRoomSummary> summaries = chatRoomRepository.findSummariesByUserId(me.getId());
+
+        // then
+        assertThat(summaries).hasSize(roomCount);
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.memberCount()).isEqualTo(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멤버 수 증감 - 원자적 UPDATE 반영")
+    void updateMemberCount() {
+        // given
+        ChatRoom room = ChatRoom.builder().name("room").type(ChatRoomType.GROUP).memberCount(2).build();
+        em.persist(room);
+        em.flush();
+
+        // when
+        chatRoomRepository.updateMemberCount(room.getId(), 1);
+        chatRoomRepository.updateMemberCount(room.getId(), 1);
+        chatRoomRepository.updateMemberCount(room.getId(), -1);
+        em.clear();
+
+        // then
+        assertThat(chatRoomRepository.findById(room.getId()).orElseThrow().getMemberCount()).isEqualTo(3);
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder().email(email).password("password").nickname(email).role("ROLE_USER").build();
+        em.persist(user);
+        return user;
+    }
+}
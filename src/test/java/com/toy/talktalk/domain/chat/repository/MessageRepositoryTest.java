@@ -0,0 +1,92 @@
+package com.toy.talktalk.domain.chat.repository;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.entity.ChatRoom;
+import com.toy.talktalk.domain.chat.entity.ChatRoomType;
+import com.toy.talktalk.domain.chat.entity.Message;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.domain.user.entity.User;
+import com.toy.talktalk.global.config.IdGeneratorConfig;
+import com.toy.talktalk.global.config.QuerydslConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({IdGeneratorConfig.class, QuerydslConfig.class})
+class MessageRepositoryTest {
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private ChatRoom room;
+    private final List<Long> messageIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        room = ChatRoom.builder().name("room").type(ChatRoomType.GROUP).memberCount(5).build();
+        em.persist(room);
+        em.persist(Message.ofSystem(room, "채팅방이 생성되었습니다."));
+        for (int i = 0; i < 5; i++) {
+            User sender = User.builder().email("user" + i + "@test.com").password("password")
+                    .nickname("user" + i).role("ROLE_USER").build();
+            em.persist(sender);
+            Message message = Message.builder().chatRoom(room).sender(sender)
+                    .content("hello " + i).type(MessageType.TEXT).build();
+            em.persist(message);
+            messageIds.add(message.getId());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("히스토리 조회 - 발신자 수와 무관하게 SQL 1회, 엔티티 로딩 없음")
+    void findHistory_singleStatement() {
+        List<ChatMessageResponse> messages = messageRepository.findHistory(room.getId(), null, 10);
+
+        assertThat(messages).hasSize(6);
+        assertThat(messages.get(0).senderNickname()).isEqualTo("user4");
+        assertThat(messages.get(5).type()).isEqualTo(MessageType.SYSTEM);
+        assertThat(messages.get(5).senderId()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("히스토리 조회 - cursor 이전 메시지를 최신순으로 size 개")
+    void findHistory_beforeCursor() {
+        List<ChatMessageResponse> messages = messageRepository.findHistory(room.getId(), messageIds.get(3), 2);
+
+        assertThat(messages).extracting(ChatMessageResponse::messageId)
+                .containsExactly(messageIds.get(2), messageIds.get(1));
+    }
+
+    @Test
+    @DisplayName("동기화 조회 - lastSeen 이후 메시지를 오래된 순으로 size 개")
+    void findAfter() {
+        List<ChatMessageResponse> messages = messageRepository.findAfter(room.getId(), messageIds.get(1), 2);
+
+        assertThat(messages).extracting(ChatMessageResponse::messageId)
+                .containsExactly(messageIds.get(2), messageIds.get(3));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
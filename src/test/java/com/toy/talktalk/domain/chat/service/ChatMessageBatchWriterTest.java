@@ -0,0 +1,122 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.global.exception.BusinessException;
+import com.toy.talktalk.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchWriterTest {
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    private ChatMessageBatchWriter chatMessageBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageBatchWriter = new ChatMessageBatchWriter(chatMessageService);
+        ReflectionTestUtils.setField(chatMessageBatchWriter, "enabled", true);
+        ReflectionTestUtils.setField(chatMessageBatchWriter, "batchSize", 2);
+        ReflectionTestUtils.setField(chatMessageBatchWriter, "flushIntervalMs", 50L);
+        ReflectionTestUtils.setField(chatMessageBatchWriter, "queueCapacity", 10);
+        chatMessageBatchWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chatMessageBatchWriter.stop();
+    }
+
+    @Test
+    @DisplayName("배치 저장 성공 시 각 발신자의 receipt 가 저장된 메시지로 완료")
+    void submit_success_completesReceipt() {
+        given(chatMessageService.saveMessages(anyList())).willAnswer(invocation -> {
+            List<ChatMessageCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> ChatMessageWriteResult.success(toResponse(command)))
+                    .toList();
+        });
+
+        CompletableFuture<ChatMessageResponse> first = chatMessageBatchWriter.submit(1L, request("hello"));
+        CompletableFuture<ChatMessageResponse> second = chatMessageBatchWriter.submit(2L, request("world"));
+
+        assertThat(first.join().content()).isEqualTo("hello");
+        assertThat(second.join().content()).isEqualTo("world");
+    }
+
+    @Test
+    @DisplayName("멤버가 아닌 발신자의 receipt 는 NOT_ROOM_MEMBER 예외로 완료")
+    void submit_notMember_completesExceptionally() {
+        given(chatMessageService.saveMessages(anyList()))
+                .willReturn(List.of(ChatMessageWriteResult.failure(ErrorCode.NOT_ROOM_MEMBER)));
+
+        CompletableFuture<ChatMessageResponse> receipt = chatMessageBatchWriter.submit(1L, request("hello"));
+
+        assertThatThrownBy(receipt::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.NOT_ROOM_MEMBER);
+    }
+
+    @Test
+    @DisplayName("receipt 콜백은 flush 스레드가 아닌 완료 스레드에서 실행")
+    void submit_callbackRunsOnReceiptThread() {
+        CountDownLatch callbackAttached = new CountDownLatch(1);
+        given(chatMessageService.saveMessages(anyList())).willAnswer(invocation -> {
+            callbackAttached.await(5, TimeUnit.SECONDS);
+            List<ChatMessageCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> ChatMessageWriteResult.success(toResponse(command)))
+                    .toList();
+        });
+
+        CompletableFuture<String> callbackThread = chatMessageBatchWriter.submit(1L, request("hello"))
+                .thenApply(response -> Thread.currentThread().getName());
+        callbackAttached.countDown();
+
+        assertThat(callbackThread.join()).isEqualTo("chat-message-receipt");
+    }
+
+    @Test
+    @DisplayName("종료 후 제출한 메시지는 대기 없이 MESSAGE_QUEUE_FULL 로 완료")
+    void submit_afterStop_completesExceptionally() throws InterruptedException {
+        chatMessageBatchWriter.stop();
+
+        CompletableFuture<ChatMessageResponse> receipt = chatMessageBatchWriter.submit(1L, request("hello"));
+
+        assertThat(receipt).isCompletedExceptionally();
+        then(chatMessageService).shouldHaveNoInteractions();
+    }
+
+    private ChatMessageRequest request(String content) {
+        return new ChatMessageRequest(10L, content, MessageType.TEXT, null);
+    }
+
+    private ChatMessageResponse toResponse(ChatMessageCommand command) {
+        return new ChatMessageResponse(1L, command.request().roomId(), command.senderId(), "닉네임",
+                command.request().content(), command.request().type(), LocalDateTime.now());
+    }
+}
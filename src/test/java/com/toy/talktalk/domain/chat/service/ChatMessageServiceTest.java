@@ -0,0 +1,119 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatMessageRequest;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatRoomMemberRow;
+import com.toy.talktalk.domain.chat.dto.MessageSyncResponse;
+import com.toy.talktalk.domain.chat.dto.RoomMessageSync;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import com.toy.talktalk.domain.chat.repository.ChatRoomRepository;
+import com.toy.talktalk.domain.chat.repository.MessageRepository;
+import com.toy.talktalk.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceTest {
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatMessageService, "maxSyncMessagesPerRoom", 2);
+    }
+
+    @Test
+    @DisplayName("동기화 - lastSeen 이후 메시지 반환")
+    void syncMessages_returnsNewMessages() {
+        given(chatRoomMembershipCache.isMember(1L, 10L)).willReturn(true);
+        given(messageRepository.findAfter(1L, 100L, 3)).willReturn(List.of(message(1L, 101L)));
+
+        MessageSyncResponse response = chatMessageService.syncMessages(10L, Map.of(1L, 100L));
+
+        assertThat(response.rooms()).singleElement().satisfies(room -> {
+            assertThat(room.reset()).isFalse();
+            assertThat(room.messages()).extracting(ChatMessageResponse::messageId).containsExactly(101L);
+        });
+    }
+
+    @Test
+    @DisplayName("동기화 - 채팅방별 상한 초과 시 reset")
+    void syncMessages_tooFarBehind_reset() {
+        given(chatRoomMembershipCache.isMember(1L, 10L)).willReturn(true);
+        given(messageRepository.findAfter(1L, 100L, 3))
+                .willReturn(List.of(message(1L, 101L), message(1L, 102L), message(1L, 103L)));
+
+        MessageSyncResponse response = chatMessageService.syncMessages(10L, Map.of(1L, 100L));
+
+        assertThat(response.rooms()).singleElement().satisfies(room -> {
+            assertThat(room.reset()).isTrue();
+            assertThat(room.messages()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("동기화 - 멤버가 아닌 채팅방은 제외, lastSeen 없으면 조회 없이 reset")
+    void syncMessages_notMemberSkipped_nullLastSeenReset() {
+        given(chatRoomMembershipCache.isMember(1L, 10L)).willReturn(false);
+        given(chatRoomMembershipCache.isMember(2L, 10L)).willReturn(true);
+        Map<Long, Long> lastSeen = new HashMap<>();
+        lastSeen.put(1L, 100L);
+        lastSeen.put(2L, null);
+
+        MessageSyncResponse response = chatMessageService.syncMessages(10L, lastSeen);
+
+        assertThat(response.rooms()).extracting(RoomMessageSync::roomId, RoomMessageSync::reset)
+                .containsExactly(tuple(2L, true));
+        then(messageRepository).should(never()).findAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 - 없는 채팅방은 CHAT_ROOM_NOT_FOUND, 멤버가 아니면 NOT_ROOM_MEMBER")
+    void saveMessages_missingRoom_chatRoomNotFound() {
+        given(chatRoomMemberRepository.findMemberRowsByChatRoomIds(Set.of(1L, 2L)))
+                .willReturn(List.of(new ChatRoomMemberRow(1L, 20L, "nick")));
+        given(chatRoomRepository.findExistingIds(Set.of(2L))).willReturn(List.of());
+
+        List<ChatMessageWriteResult> results = chatMessageService.saveMessages(List.of(
+                new ChatMessageCommand(10L, new ChatMessageRequest(1L, "hello", MessageType.TEXT, null)),
+                new ChatMessageCommand(10L, new ChatMessageRequest(2L, "hello", MessageType.TEXT, null))));
+
+        assertThat(results).extracting(ChatMessageWriteResult::errorCode)
+                .containsExactly(ErrorCode.NOT_ROOM_MEMBER, ErrorCode.CHAT_ROOM_NOT_FOUND);
+    }
+
+    private ChatMessageResponse message(Long roomId, Long messageId) {
+        return new ChatMessageResponse(messageId, roomId, 2L, "nick", "hello", MessageType.TEXT,
+                LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+}
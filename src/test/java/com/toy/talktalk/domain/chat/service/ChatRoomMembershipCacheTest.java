@@ -0,0 +1,109 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipCacheTest {
+
+    @InjectMocks
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "localTtlMillis", 60000L);
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "localMaxRooms", 100);
+        ReflectionTestUtils.setField(chatRoomMembershipCache, "redisTtlSeconds", 3600L);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("Redis 에 없으면 DB 에서 조회 후 Redis / 로컬에 캐시")
+    void isMember_redisMiss_loadsFromDatabaseOnce() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("room:members:gen:1")).willReturn("3");
+        given(setOperations.members("room:members:1")).willReturn(Set.of());
+        given(chatRoomMemberRepository.findUserIdsByChatRoomId(1L)).willReturn(List.of(30L, 10L, 20L));
+
+        assertThat(chatRoomMembershipCache.isMember(1L, 20L)).isTrue();
+        assertThat(chatRoomMembershipCache.isMember(1L, 40L)).isFalse();
+
+        then(chatRoomMemberRepository).should(times(1)).findUserIdsByChatRoomId(1L);
+        // 조회 전 세대와 함께 Lua 로 채움 (세대가 바뀌었으면 스크립트가 건너뜀)
+        then(redisTemplate).should().execute(any(RedisScript.class),
+                eq(List.of("room:members:1", "room:members:gen:1")), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 무효화되면 조회 결과를 로컬에 캐시하지 않음")
+    void getMemberIds_evictedDuringLoad_notCachedLocally() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(setOperations.members("room:members:1")).willReturn(Set.of());
+        given(chatRoomMemberRepository.findUserIdsByChatRoomId(1L)).willAnswer(invocation -> {
+            chatRoomMembershipCache.evict(1L);
+            return List.of(10L);
+        }).willReturn(List.of(20L));
+
+        assertThat(chatRoomMembershipCache.getMemberIds(1L)).containsExactly(10L);
+        assertThat(chatRoomMembershipCache.getMemberIds(1L)).containsExactly(20L);
+
+        then(valueOperations).should().increment("room:members:gen:1");
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 를 조회하지 않음")
+    void getMemberIds_redisHit_skipsDatabase() {
+        given(setOperations.members("room:members:1")).willReturn(Set.of("2", "1"));
+
+        assertThat(chatRoomMembershipCache.getMemberIds(1L)).containsExactly(1L, 2L);
+
+        then(chatRoomMemberRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void evict_reloadsMembers() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(setOperations.members("room:members:1")).willReturn(Set.of("1"), Set.of("1", "2"));
+
+        assertThat(chatRoomMembershipCache.isMember(1L, 2L)).isFalse();
+        chatRoomMembershipCache.evict(1L);
+
+        assertThat(chatRoomMembershipCache.isMember(1L, 2L)).isTrue();
+        then(redisTemplate).should().convertAndSend("chat:membership:invalidate", "1");
+    }
+}
@@ -0,0 +1,92 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatRoomResponse;
+import com.toy.talktalk.domain.chat.dto.CreateChatRoomRequest;
+import com.toy.talktalk.domain.chat.entity.ChatRoomMember;
+import com.toy.talktalk.domain.chat.entity.ChatRoomType;
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import com.toy.talktalk.domain.chat.repository.ChatRoomRepository;
+import com.toy.talktalk.domain.user.entity.User;
+import com.toy.talktalk.domain.user.repository.UserRepository;
+import com.toy.talktalk.global.exception.BusinessException;
+import com.toy.talktalk.global.exception.ErrorCode;
+import com.toy.talktalk.global.redis.UnreadCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomServiceTest {
+
+    @InjectMocks
+    private ChatRoomService chatRoomService;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("채팅방 생성 - 중복 초대 / 자기 자신 초대는 제외하고 memberCount 계산")
+    void createChatRoom_duplicateInvitees_deduplicated() {
+        // given
+        given(userRepository.findById(anyLong()))
+                .willAnswer(invocation -> Optional.of(User.builder().id(invocation.getArgument(0)).build()));
+
+        // when
+        ChatRoomResponse response = chatRoomService.createChatRoom(1L,
+                new CreateChatRoomRequest(ChatRoomType.GROUP, "room", List.of(2L, 3L, 2L, 1L)));
+
+        // then
+        assertThat(response.memberCount()).isEqualTo(3);
+        then(chatRoomMemberRepository).should(times(3)).save(any(ChatRoomMember.class));
+    }
+
+    @Test
+    @DisplayName("1:1 채팅방 - 같은 상대를 중복 초대해도 1명으로 처리")
+    void createChatRoom_directDuplicateInvitee_allowed() {
+        // given
+        given(userRepository.findById(anyLong()))
+                .willAnswer(invocation -> Optional.of(User.builder().id(invocation.getArgument(0)).build()));
+
+        // when
+        ChatRoomResponse response = chatRoomService.createChatRoom(1L,
+                new CreateChatRoomRequest(ChatRoomType.DIRECT, null, List.of(2L, 2L)));
+
+        // then
+        assertThat(response.memberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채팅방 생성 - 자기 자신만 초대하면 예외")
+    void createChatRoom_onlySelfInvited_throws() {
+        assertThatThrownBy(() -> chatRoomService.createChatRoom(1L,
+                new CreateChatRoomRequest(ChatRoomType.DIRECT, null, List.of(1L))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+
+        then(chatRoomRepository).shouldHaveNoInteractions();
+    }
+}
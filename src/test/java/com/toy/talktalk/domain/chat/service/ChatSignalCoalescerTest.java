@@ -0,0 +1,118 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.ChatSignalRequest;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.global.redis.RedisChatPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSignalCoalescerTest {
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private RedisChatPublisher redisChatPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatSignalCoalescer chatSignalCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        chatSignalCoalescer = new ChatSignalCoalescer(chatRoomMembershipCache, redisChatPublisher, meterRegistry);
+        ReflectionTestUtils.setField(chatSignalCoalescer, "enabled", true);
+        // 스케줄 flush 가 테스트 중에 돌지 않도록 — flush() 직접 호출
+        ReflectionTestUtils.setField(chatSignalCoalescer, "windowMillis", 60_000L);
+        ReflectionTestUtils.setField(chatSignalCoalescer, "repeatIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(chatSignalCoalescer, "maxPerSecond", 3);
+        ReflectionTestUtils.setField(chatSignalCoalescer, "idleEvictMillis", 60_000L);
+        chatSignalCoalescer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatSignalCoalescer.stop();
+    }
+
+    @Test
+    @DisplayName("window 안의 신호는 발신자별 마지막 상태 하나로 발행")
+    void flush_coalescesPerSender() {
+        // given
+        given(chatRoomMembershipCache.isMember(eq(1L), anyLong())).willReturn(true);
+        chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.TYPING));
+        chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.STOPPED_TYPING));
+        chatSignalCoalescer.submit(8L, new ChatSignalRequest(1L, SignalType.TYPING));
+
+        // when
+        chatSignalCoalescer.flush();
+
+        // then
+        then(redisChatPublisher).should().publishSignal(1L, new ChatSignalResponse(1L, 7L, SignalType.STOPPED_TYPING));
+        then(redisChatPublisher).should().publishSignal(1L, new ChatSignalResponse(1L, 8L, SignalType.TYPING));
+        then(redisChatPublisher).shouldHaveNoMoreInteractions();
+        assertThat(meterRegistry.counter("chat.signal.coalesced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 상태는 repeat-interval 안에서 다시 발행하지 않음")
+    void flush_sameState_suppressed() {
+        // given
+        given(chatRoomMembershipCache.isMember(1L, 7L)).willReturn(true);
+        chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.TYPING));
+        chatSignalCoalescer.flush();
+
+        // when
+        chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.TYPING));
+        chatSignalCoalescer.flush();
+
+        // then
+        then(redisChatPublisher).should(times(1)).publishSignal(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("발신자별 초당 한도를 넘는 신호와 멤버가 아닌 사용자의 신호는 버림")
+    void submit_rateLimitedAndNotMember_dropped() {
+        // given
+        given(chatRoomMembershipCache.isMember(1L, 7L)).willReturn(true);
+        given(chatRoomMembershipCache.isMember(1L, 9L)).willReturn(false);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.TYPING));
+        }
+        chatSignalCoalescer.submit(9L, new ChatSignalRequest(1L, SignalType.TYPING));
+
+        // then
+        assertThat(meterRegistry.counter("chat.signal.dropped", "reason", "rate").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.signal.dropped", "reason", "not-member").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("신호가 없는 발신자 / 채팅방 상태는 정리")
+    void flush_idle_evicted() {
+        // given
+        ReflectionTestUtils.setField(chatSignalCoalescer, "idleEvictMillis", 0L);
+        given(chatRoomMembershipCache.isMember(1L, 7L)).willReturn(true);
+        chatSignalCoalescer.submit(7L, new ChatSignalRequest(1L, SignalType.VIEWING));
+
+        // when
+        chatSignalCoalescer.flush();
+
+        // then
+        then(redisChatPublisher).should().publishSignal(1L, new ChatSignalResponse(1L, 7L, SignalType.VIEWING));
+        assertThat(chatSignalCoalescer.roomCount()).isZero();
+    }
+}
@@ -0,0 +1,144 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.MessageExportRow;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.domain.chat.repository.MessageJdbcRepository;
+import com.toy.talktalk.global.exception.BusinessException;
+import com.toy.talktalk.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageExportServiceTest {
+
+    @Mock
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private MessageJdbcRepository messageJdbcRepository;
+
+    private MessageExportService messageExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        messageExportService = new MessageExportService(chatMessageService, messageJdbcRepository, objectMapper);
+        ReflectionTestUtils.setField(messageExportService, "fetchSize", 1000);
+        ReflectionTestUtils.setField(messageExportService, "maxConcurrentExports", 1);
+        ReflectionTestUtils.setField(messageExportService, "exportQueueCapacity", 1);
+        messageExportService.initLimits();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더 + 행, 쉼표/따옴표 포함 필드는 이스케이프")
+    void write_csv() throws Exception {
+        givenRows(
+                new MessageExportRow(1L, null, null, "채팅방이 생성되었습니다.", MessageType.SYSTEM,
+                        LocalDateTime.of(2026, 1, 1, 0, 0)),
+                new MessageExportRow(2L, 10L, "nick", "hi, \"there\"", MessageType.TEXT,
+                        LocalDateTime.of(2026, 1, 1, 0, 1)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        messageExportService.write(1L, MessageExportFormat.CSV, false, out, () -> { });
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "messageId,senderId,senderNickname,content,type,sentAt\n"
+                        + "1,,,채팅방이 생성되었습니다.,SYSTEM,2026-01-01T00:00\n"
+                        + "2,10,nick,\"hi, \"\"there\"\"\",TEXT,2026-01-01T00:01\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - gzip 압축 시 한 줄에 하나의 JSON")
+    void write_ndjsonGzip() throws Exception {
+        givenRows(
+                new MessageExportRow(1L, 10L, "nick", "a", MessageType.TEXT, LocalDateTime.of(2026, 1, 1, 0, 0)),
+                new MessageExportRow(2L, 10L, "nick", "b", MessageType.TEXT, LocalDateTime.of(2026, 1, 1, 0, 1)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        messageExportService.write(1L, MessageExportFormat.NDJSON, true, out, () -> { });
+
+        String body = new String(
+                new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body.split("\n"))
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"messageId\":"));
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 스트리밍 시작 전에 예외")
+    void export_notMember() {
+        willThrow(new BusinessException(ErrorCode.NOT_ROOM_MEMBER))
+                .given(chatMessageService).validateRoomMember(1L, 2L);
+
+        assertThatThrownBy(() -> messageExportService.export(2L, 1L, MessageExportFormat.CSV, false, () -> { }))
+                .isInstanceOf(BusinessException.class);
+
+        then(messageJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("동시 실행 + 대기 수를 넘으면 스트리밍 시작 전에 EXPORT_BUSY, 끝난 내보내기는 자리를 반환")
+    void export_busy() throws Exception {
+        givenRows();
+        StreamingResponseBody first = messageExportService.export(1L, 1L, MessageExportFormat.CSV, false, () -> { });
+        messageExportService.export(1L, 1L, MessageExportFormat.CSV, false, () -> { });
+
+        assertThatThrownBy(() -> messageExportService.export(1L, 1L, MessageExportFormat.CSV, false, () -> { }))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EXPORT_BUSY);
+
+        first.writeTo(new ByteArrayOutputStream());
+        assertThatCode(() -> messageExportService.export(1L, 1L, MessageExportFormat.CSV, false, () -> { }))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("커서 조회가 실패하면 스트림 시작 콜백(gzip 헤더)을 호출하지 않고 아무것도 쓰지 않음")
+    void write_failsBeforeFirstByte_streamNotStarted() {
+        willThrow(new IllegalStateException("db down"))
+                .given(messageJdbcRepository).streamByRoomId(eq(1L), eq(1000), any());
+        AtomicBoolean started = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> messageExportService.write(1L, MessageExportFormat.NDJSON, true, out,
+                () -> started.set(true)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(started).isFalse();
+        assertThat(out.size()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(MessageExportRow... rows) {
+        willAnswer(invocation -> {
+            Consumer<MessageExportRow> consumer = invocation.getArgument(2);
+            for (MessageExportRow row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).given(messageJdbcRepository).streamByRoomId(eq(1L), eq(1000), any(Consumer.class));
+    }
+}
@@ -0,0 +1,160 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.domain.chat.repository.ChatRoomMemberRepository;
+import com.toy.talktalk.domain.user.service.UserNicknameChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageHistoryCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MessageHistoryCache messageHistoryCache;
+
+    @BeforeEach
+    void setUp() {
+        messageHistoryCache = new MessageHistoryCache(redisTemplate, objectMapper, meterRegistry, chatRoomMemberRepository);
+        ReflectionTestUtils.setField(messageHistoryCache, "enabled", true);
+        ReflectionTestUtils.setField(messageHistoryCache, "capacity", 100);
+        ReflectionTestUtils.setField(messageHistoryCache, "ttlSeconds", 86400L);
+        messageHistoryCache.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("요청 범위가 캐시 안에 있으면 hit")
+    void find_windowInsideCache_hit() throws Exception {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore("room:history:1", 0, 29D, 0, 2))
+                .willReturn(entries(message(20L), message(10L)));
+
+        Optional<List<ChatMessageResponse>> result = messageHistoryCache.find(1L, 30L, 2);
+
+        assertThat(result).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageResponse::messageId).containsExactly(20L, 10L));
+        assertThat(meterRegistry.counter("chat.history.cache", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 개수가 부족하고 첫 메시지 표시가 없으면 miss")
+    void find_partialWindow_miss() throws Exception {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq("room:history:1"), eq(0D), anyDouble(), eq(0L), eq(31L)))
+                .willReturn(entries(message(20L)));
+
+        assertThat(messageHistoryCache.find(1L, null, 31)).isEmpty();
+        assertThat(meterRegistry.counter("chat.history.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 메시지 표시가 있으면 개수가 부족해도 hit")
+    void find_reachedHead_hit() throws Exception {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        LinkedHashSet<String> entries = entries(message(20L));
+        entries.add("^");
+        given(zSetOperations.reverseRangeByScore(eq("room:history:1"), eq(0D), anyDouble(), eq(0L), eq(31L)))
+                .willReturn(entries);
+
+        assertThat(messageHistoryCache.find(1L, null, 31)).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ChatMessageResponse::messageId).containsExactly(20L));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 Redis 를 조회하지 않음")
+    void find_disabled_skipsRedis() {
+        ReflectionTestUtils.setField(messageHistoryCache, "enabled", false);
+
+        assertThat(messageHistoryCache.find(1L, null, 31)).isEmpty();
+
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("저장 이벤트 append 후 용량 초과분 제거")
+    void handleMessageSaved_appendsAndTrims() throws Exception {
+        messageHistoryCache.handleMessageSaved(new ChatMessageSavedEvent(List.of(message(10L))));
+
+        // (용량, TTL, messageId, JSON) — 같은 messageId 항목은 스크립트가 교체
+        then(redisTemplate).should().execute(any(RedisScript.class), eq(List.of("room:history:1")),
+                eq("100"), eq("86400"), eq("10"), eq(objectMapper.writeValueAsString(message(10L))));
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 캐시 키 삭제")
+    void handleMessageSaved_failure_evicts() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new IllegalStateException("down"));
+
+        messageHistoryCache.handleMessageSaved(new ChatMessageSavedEvent(List.of(message(10L))));
+
+        then(redisTemplate).should().delete("room:history:1");
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 항목이 있으면 캐시 키를 지우고 miss")
+    void find_corruptedEntry_evictsAndMisses() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq("room:history:1"), eq(0D), anyDouble(), eq(0L), eq(2L)))
+                .willReturn(new LinkedHashSet<>(List.of("{not-json")));
+
+        Optional<List<ChatMessageResponse>> result = messageHistoryCache.find(1L, null, 2);
+
+        assertThat(result).isEmpty();
+        then(redisTemplate).should().delete("room:history:1");
+        assertThat(meterRegistry.counter("chat.history.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 시 그 유저가 속한 채팅방 캐시 삭제")
+    void handleNicknameChanged_evictsUserRooms() {
+        given(chatRoomMemberRepository.findChatRoomIdsByUserId(7L)).willReturn(List.of(1L, 2L));
+
+        messageHistoryCache.handleNicknameChanged(new UserNicknameChangedEvent(7L));
+
+        then(redisTemplate).should().delete(List.of("room:history:1", "room:history:2"));
+    }
+
+    private ChatMessageResponse message(Long messageId) {
+        return new ChatMessageResponse(messageId, 1L, 2L, "nick", "hello", MessageType.TEXT,
+                LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    private LinkedHashSet<String> entries(ChatMessageResponse... messages) throws Exception {
+        LinkedHashSet<String> entries = new LinkedHashSet<>();
+        for (ChatMessageResponse message : messages) {
+            entries.add(objectMapper.writeValueAsString(message));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,138 @@
+package com.toy.talktalk.domain.chat.service;
+
+import com.toy.talktalk.domain.chat.dto.PresenceChange;
+import com.toy.talktalk.domain.chat.dto.PresenceResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceStatus;
+import com.toy.talktalk.global.redis.OnlineStatusService;
+import com.toy.talktalk.global.redis.RedisChatSubscriber;
+import com.toy.talktalk.global.redis.RedisSubscriptionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceBroadcasterTest {
+
+    @Mock
+    private OnlineStatusService onlineStatusService;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    @Mock
+    private RedisChatSubscriber redisChatSubscriber;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PresenceBroadcaster presenceBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        presenceBroadcaster = new PresenceBroadcaster(onlineStatusService, chatRoomMembershipCache,
+                redisSubscriptionManager, redisChatSubscriber, redisTemplate, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(presenceBroadcaster, "debounceMillis", 0L);
+        ReflectionTestUtils.setField(presenceBroadcaster, "idleAfterMillis", 60_000L);
+        // 스케줄러 없이 tick() 직접 호출
+        ReflectionTestUtils.setField(presenceBroadcaster, "enabled", false);
+        presenceBroadcaster.start();
+        ReflectionTestUtils.setField(presenceBroadcaster, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("처음 접속하면 ONLINE, 마지막 세션이 끊기고 debounce 후에도 오프라인이면 OFFLINE")
+    void connectAndDisconnect_publishesTransitions() {
+        // given
+        given(onlineStatusService.isOnline(7L)).willReturn(false);
+        given(onlineStatusService.getOnlineUserIds(List.of(7L))).willReturn(Set.of());
+
+        // when
+        presenceBroadcaster.connected(7L, "s1");
+        presenceBroadcaster.tick();
+        presenceBroadcaster.disconnected(7L, "s1");
+        presenceBroadcaster.tick();
+
+        // then
+        then(redisTemplate).should().convertAndSend("chat:presence", "7:0");
+        then(redisTemplate).should().convertAndSend("chat:presence", "7:2");
+    }
+
+    @Test
+    @DisplayName("debounce 안에 재접속하면 이벤트 없음")
+    void reconnectWithinDebounce_noEvents() {
+        // given
+        ReflectionTestUtils.setField(presenceBroadcaster, "debounceMillis", 60_000L);
+        given(onlineStatusService.isOnline(7L)).willReturn(true);
+        presenceBroadcaster.connected(7L, "s1");
+
+        // when
+        presenceBroadcaster.disconnected(7L, "s1");
+        presenceBroadcaster.connected(7L, "s2");
+        presenceBroadcaster.tick();
+
+        // then
+        then(redisTemplate).should(never()).convertAndSend(anyString(), any());
+        assertThat(meterRegistry.counter("chat.presence.flaps.suppressed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 IDLE, 다시 메시지를 보내면 ONLINE")
+    void idleAndTouch_publishesTransitions() {
+        // given
+        ReflectionTestUtils.setField(presenceBroadcaster, "idleAfterMillis", 0L);
+        given(onlineStatusService.isOnline(7L)).willReturn(true);
+        presenceBroadcaster.connected(7L, "s1");
+
+        // when
+        presenceBroadcaster.tick();
+        presenceBroadcaster.touch(7L);
+        ReflectionTestUtils.setField(presenceBroadcaster, "idleAfterMillis", 60_000L);
+        presenceBroadcaster.tick();
+
+        // then
+        then(redisTemplate).should().convertAndSend("chat:presence", "7:1");
+        then(redisTemplate).should().convertAndSend("chat:presence", "7:0");
+    }
+
+    @Test
+    @DisplayName("수신한 변경은 로컬 구독 채팅방별로 멤버만 묶어 1건씩 전달")
+    void onMessage_batchesPerLocalRoom() {
+        // given
+        given(redisSubscriptionManager.localRoomIds()).willReturn(Set.of(1L, 2L));
+        given(chatRoomMembershipCache.getMemberIds(1L)).willReturn(new long[]{7L, 8L});
+        given(chatRoomMembershipCache.getMemberIds(2L)).willReturn(new long[]{9L});
+
+        // when
+        presenceBroadcaster.onMessage(new DefaultMessage(
+                "chat:presence".getBytes(StandardCharsets.UTF_8),
+                "7:0,8:2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        then(redisChatSubscriber).should().deliver(new PresenceResponse(1L, List.of(
+                new PresenceChange(7L, PresenceStatus.ONLINE), new PresenceChange(8L, PresenceStatus.OFFLINE))));
+        then(redisChatSubscriber).shouldHaveNoMoreInteractions();
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -33,6 +35,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("회원가입 성공")
     void signup_success() {
@@ -59,6 +64,20 @@ class UserServiceTest {
         then(userRepository).should(never()).save(any());
     }
 
+    @Test
+    @DisplayName("중복 확인 이후 동시 가입으로 unique 제약 위반 시 EMAIL_ALREADY_EXISTS 예외 발생")
+    void signup_concurrentDuplicate_throwsEmailAlreadyExists() {
+        SignupRequest request = new SignupRequest("race@example.com", "password123", "닉네임");
+        given(userRepository.existsByEmail(request.email())).willReturn(false);
+        given(passwordEncoder.encode(request.password())).willReturn("encodedPassword");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("uk_users_email"));
+
+        assertThatThrownBy(() -> userService.signup(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS);
+    }
+
     @Test
     @DisplayName("내 프로필 조회 성공")
     void getUserProfile_success() {
@@ -92,6 +111,18 @@ class UserServiceTest {
         UserProfileResponse response = userService.updateProfile(1L, request);
 
         assertThat(response.nickname()).isEqualTo("새닉네임");
+        then(eventPublisher).should().publishEvent(new UserNicknameChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("닉네임이 그대로면 닉네임 변경 이벤트 없음")
+    void updateProfile_sameNickname_noEvent() {
+        User user = buildUser(1L, "test@example.com", "기존닉네임");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        userService.updateProfile(1L, new UpdateProfileRequest("기존닉네임", "https://example.com/a.png"));
+
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @Test
@@ -0,0 +1,89 @@
+package com.toy.talktalk.global.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisNodeIdAllocatorTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisNodeIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("id:node:0"), anyString(), any(Duration.class))).willReturn(true);
+        // 갱신 주기(TTL / 3)가 테스트 중에 돌지 않도록 긴 TTL
+        allocator = new RedisNodeIdAllocator(redisTemplate, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocator.close();
+    }
+
+    @Test
+    @DisplayName("갱신 성공 시 임대 유지")
+    void renewLease_owned_staysHeld() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+
+        // when
+        allocator.renewLease();
+
+        // then
+        assertThat(allocator.getNodeId()).isZero();
+        assertThat(allocator.isHeld()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대를 점유하면 이후 다시 갱신되지 않고 id 생성 중단")
+    void renewLease_ownedByOther_stopsHolding() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+
+        // when
+        allocator.renewLease();
+        allocator.renewLease();
+
+        // then
+        assertThat(allocator.isHeld()).isFalse();
+        then(redisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("임대를 잃으면 health DOWN")
+    void health_leaseLost_down() {
+        // given
+        NodeIdLeaseHealthIndicator healthIndicator = new NodeIdLeaseHealthIndicator(allocator);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+        // when
+        allocator.renewLease();
+
+        // then
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(healthIndicator.health().getDetails()).containsEntry("nodeId", 0L);
+    }
+}
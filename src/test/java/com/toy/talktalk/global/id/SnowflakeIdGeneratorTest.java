@@ -0,0 +1,84 @@
+package com.toy.talktalk.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초에 생성한 id 도 단조 증가")
+    void nextId_sameMillis_increasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, 10L, clock::get);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("시퀀스 소진 시 다음 밀리초로 넘어가 중복 없이 생성")
+    void nextId_sequenceExhausted_movesToNextMillis() {
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0L, 10L,
+                () -> NOW + calls.getAndIncrement() / 200);
+
+        long previous = -1L;
+        for (int i = 0; i < 1000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("id 에 노드 id 가 포함되고 53bit 범위를 넘지 않음")
+    void nextId_containsNodeId_within53Bits() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5L, 10L, () -> NOW);
+
+        long id = generator.nextId();
+
+        assertThat((id >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(5L);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 넘는 시계 역행 시 예외 발생")
+    void nextId_clockMovedBackwards_throws() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0L, 10L, clock::get);
+        generator.nextId();
+
+        clock.set(NOW - 100L);
+
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 id 로 생성 시 예외 발생")
+    void constructor_invalidNodeId_throws() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, 10L, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 id 임대를 잃으면 id 생성 실패")
+    void nextId_nodeIdLost_throws() {
+        AtomicBoolean held = new AtomicBoolean(true);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, 10L, () -> NOW, held::get);
+        generator.nextId();
+
+        held.set(false);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -5,6 +5,13 @@ import com.toy.talktalk.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -13,12 +20,13 @@ class JwtProviderTest {
     private static final String SECRET = "test-secret-key-must-be-at-least-32-characters-long";
     private static final long ACCESS_TOKEN_EXPIRATION = 3600000L;
     private static final long REFRESH_TOKEN_EXPIRATION = 604800000L;
+    private static final int VERIFIED_CACHE_MAX_SIZE = 100;
 
     private JwtProvider jwtProvider;
 
     @BeforeEach
     void setUp() {
-        jwtProvider = new JwtProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+        jwtProvider = new JwtProvider(SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, VERIFIED_CACHE_MAX_SIZE);
     }
 
     @Test
@@ -45,10 +53,11 @@ class JwtProviderTest {
 
     @Test
     @DisplayName("만료된 토큰 검증 시 EXPIRED_TOKEN 예외 발생")
-    void validateToken_expired_throwsExpiredToken() throws InterruptedException {
-        JwtProvider shortLivedProvider = new JwtProvider(SECRET, 1L, 1L);
+    void validateToken_expired_throwsExpiredToken() {
+        MutableClock clock = new MutableClock();
+        JwtProvider shortLivedProvider = new JwtProvider(SECRET, 1_000L, 1_000L, VERIFIED_CACHE_MAX_SIZE, clock);
         String token = shortLivedProvider.generateAccessToken(1L);
-        Thread.sleep(10);
+        clock.advance(Duration.ofSeconds(2));
 
         assertThatThrownBy(() -> shortLivedProvider.validateToken(token))
                 .isInstanceOf(BusinessException.class)
@@ -73,4 +82,73 @@ class JwtProviderTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.INVALID_TOKEN);
     }
+
+    @Test
+    @DisplayName("authenticate 는 userId 를 principal 로 한 인증 객체 반환, 반복 호출은 캐시에서")
+    void authenticate_returnsPrincipal_cached() {
+        String token = jwtProvider.generateAccessToken(3L);
+
+        UsernamePasswordAuthenticationToken first = jwtProvider.authenticate(token);
+        UsernamePasswordAuthenticationToken second = jwtProvider.authenticate(token);
+
+        assertThat(first.getPrincipal()).isEqualTo(3L);
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second.getPrincipal()).isEqualTo(3L);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 exp 가 지나면 EXPIRED_TOKEN 예외 발생")
+    void authenticate_cachedButExpired_throwsExpiredToken() {
+        MutableClock clock = new MutableClock();
+        JwtProvider shortLivedProvider = new JwtProvider(SECRET, 2_000L, 2_000L, VERIFIED_CACHE_MAX_SIZE, clock);
+        String token = shortLivedProvider.generateAccessToken(1L);
+        assertThat(shortLivedProvider.authenticate(token).getPrincipal()).isEqualTo(1L);
+        clock.advance(Duration.ofSeconds(3));
+
+        assertThatThrownBy(() -> shortLivedProvider.authenticate(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 캐시와 무관하게 INVALID_TOKEN 예외 발생")
+    void authenticate_foreignSignature_throwsInvalidToken() {
+        JwtProvider otherProvider = new JwtProvider(
+                "other-secret-key-must-be-at-least-32-characters-long", ACCESS_TOKEN_EXPIRATION,
+                REFRESH_TOKEN_EXPIRATION, VERIFIED_CACHE_MAX_SIZE);
+        String token = otherProvider.generateAccessToken(1L);
+        otherProvider.authenticate(token);
+
+        assertThatThrownBy(() -> jwtProvider.authenticate(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    // 테스트에서 직접 시간을 옮기는 시계
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
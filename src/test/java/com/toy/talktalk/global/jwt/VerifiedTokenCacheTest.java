@@ -0,0 +1,32 @@
+package com.toy.talktalk.global.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("exp 가 지난 항목은 조회 시 제거")
+    void get_expired_removed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        cache.put("token", 1L, 1_000L);
+
+        assertThat(cache.get("token", 999L).userId()).isEqualTo(1L);
+        assertThat(cache.get("token", 1_000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래 쓰지 않은 항목부터 제거")
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token-" + i, (long) i, Long.MAX_VALUE);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.get("token-999", 0L).userId()).isEqualTo(999L);
+    }
+}
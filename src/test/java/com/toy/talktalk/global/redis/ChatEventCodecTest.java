@@ -0,0 +1,96 @@
+package com.toy.talktalk.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.ChatEvent;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceChange;
+import com.toy.talktalk.domain.chat.dto.PresenceResponse;
+import com.toy.talktalk.domain.chat.dto.PresenceStatus;
+import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChatEventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final JsonChatEventCodec jsonCodec = new JsonChatEventCodec(objectMapper);
+    private final BinaryChatEventCodec binaryCodec = new BinaryChatEventCodec();
+
+    private final ChatMessageResponse message = new ChatMessageResponse(
+            123456789012345L, 42L, 7L, "닉네임", "안녕하세요 hello", MessageType.TEXT,
+            LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123456789));
+    private final ChatMessageResponse systemMessage = new ChatMessageResponse(
+            123456789012346L, 42L, null, null, "입장했습니다.", MessageType.SYSTEM,
+            LocalDateTime.of(2026, 3, 1, 12, 30, 16));
+    private final ReadAckResponse readAck = new ReadAckResponse(42L, 7L, LocalDateTime.of(2026, 3, 1, 12, 31));
+    private final ChatSignalResponse signal = new ChatSignalResponse(42L, 7L, SignalType.TYPING);
+    private final PresenceResponse presence = new PresenceResponse(42L, List.of(
+            new PresenceChange(7L, PresenceStatus.ONLINE), new PresenceChange(8L, PresenceStatus.IDLE)));
+
+    @Test
+    @DisplayName("바이너리 - 묶음 인코딩 후 동일하게 복원 (null 필드 포함)")
+    void binary_roundTrip() {
+        List<ChatEvent> events = List.of(message, systemMessage, readAck, signal, presence);
+
+        byte[] payload = binaryCodec.encodeBatch(events);
+
+        assertThat(payload[0]).isEqualTo(BinaryChatEventCodec.FORMAT_VERSION);
+        assertThat(binaryCodec.decode(payload)).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("바이너리 - enum 은 선언 순서와 무관한 고정 코드로 기록")
+    void binary_enumWireCodesPinned() {
+        // [version][이벤트 수][kind][roomId][userId][type]
+        assertThat(binaryCodec.encode(new ChatSignalResponse(42L, 7L, SignalType.VIEWING)))
+                .containsExactly(BinaryChatEventCodec.FORMAT_VERSION, 1, 3, 42, 7, 2);
+        // [version][이벤트 수][kind][roomId][변경 수][userId][status]
+        assertThat(binaryCodec.encode(new PresenceResponse(42L, List.of(new PresenceChange(7L, PresenceStatus.OFFLINE)))))
+                .containsExactly(BinaryChatEventCodec.FORMAT_VERSION, 1, 4, 42, 1, 7, 2);
+    }
+
+    @Test
+    @DisplayName("바이너리 - 모르는 enum 코드는 예외")
+    void binary_unknownEnumCode_throws() {
+        byte[] payload = {BinaryChatEventCodec.FORMAT_VERSION, 1, 3, 42, 7, 9};
+
+        assertThatThrownBy(() -> binaryCodec.decode(payload)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("바이너리 - JSON 보다 작은 페이로드")
+    void binary_smallerThanJson() {
+        assertThat(binaryCodec.encode(message).length).isLessThan(jsonCodec.encode(message).length / 2);
+    }
+
+    @Test
+    @DisplayName("JSON - 단건 객체 / 묶음 배열 모두 목록으로 복원")
+    void json_decodesObjectAndArray() {
+        assertThat(jsonCodec.decode(jsonCodec.encode(readAck))).containsExactly(readAck);
+        assertThat(jsonCodec.decode(jsonCodec.encodeBatch(List.of(message, readAck)))).containsExactly(message, readAck);
+    }
+
+    @Test
+    @DisplayName("전환 배포 - 바이너리 발행 노드도 기존 JSON 페이로드를 수신")
+    void delegating_decodesBothFormats() {
+        DelegatingChatEventCodec codec = new DelegatingChatEventCodec(binaryCodec, jsonCodec, binaryCodec);
+        byte[] legacyJson = ("{\"eventType\":\"READ_ACK\",\"roomId\":42,\"userId\":7,\"readAt\":\"2026-03-01T12:31:00\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(codec.decode(legacyJson)).containsExactly(readAck);
+        assertThat(codec.decode(codec.encode(message))).containsExactly(message);
+    }
+}
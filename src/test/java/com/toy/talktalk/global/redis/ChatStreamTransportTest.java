@@ -0,0 +1,177 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.cluster.ClusterNode;
+import com.toy.talktalk.global.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatStreamTransportTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatStreamTransport chatStreamTransport;
+
+    @BeforeEach
+    void setUp() {
+        chatStreamTransport = new ChatStreamTransport(binaryRedisTemplate, redisSubscriptionManager,
+                new ClusterNode("node-a"), meterRegistry);
+        ReflectionTestUtils.setField(chatStreamTransport, "shards", 16);
+        ReflectionTestUtils.setField(chatStreamTransport, "staleGroupMillis", 60_000L);
+        chatStreamTransport.start();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방은 항상 같은 샤드 스트림")
+    void streamKey_stablePerRoom() {
+        assertThat(chatStreamTransport.streamKey(42L)).isEqualTo(chatStreamTransport.streamKey(42L));
+        assertThat(new String(chatStreamTransport.streamKey(42L), StandardCharsets.UTF_8)).matches("chat:stream:(\\d|1[0-5])");
+    }
+
+    @Test
+    @DisplayName("snowflake id(하위 bit 대부분 0)도 샤드에 고르게 분산")
+    void streamKey_snowflakeIds_spreadAcrossShards() {
+        // given — 채팅방 생성처럼 밀리초마다 하나씩 (sequence 항상 0)
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, 10L, () -> clock.getAndAdd(1L));
+        Map<String, Integer> roomsPerShard = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 1_600; i++) {
+            roomsPerShard.merge(new String(chatStreamTransport.streamKey(generator.nextId()), StandardCharsets.UTF_8), 1, Integer::sum);
+        }
+
+        // then — 균등(100)에서 크게 벗어나지 않음
+        assertThat(roomsPerShard).hasSize(16);
+        assertThat(roomsPerShard.values()).allSatisfy(count -> assertThat(count).isBetween(50, 150));
+    }
+
+    @Test
+    @DisplayName("읽은 이벤트를 로컬 전달한 뒤 스트림별로 묶어 ACK")
+    @SuppressWarnings("unchecked")
+    void handle_deliversThenAcks() {
+        // given
+        given(binaryRedisTemplate.execute(any(RedisCallback.class)))
+                .willAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        given(connection.streamCommands()).willReturn(streamCommands);
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        List<ByteRecord> records = List.of(record("chat:stream:1", "1-0", 1L, payload), record("chat:stream:1", "2-0", 17L, payload));
+
+        // when
+        int handled = chatStreamTransport.handle(records);
+
+        // then
+        assertThat(handled).isEqualTo(2);
+        then(redisSubscriptionManager).should().deliverStreamEvent(1L, payload);
+        then(redisSubscriptionManager).should().deliverStreamEvent(17L, payload);
+        then(streamCommands).should().xAck(aryEq("chat:stream:1".getBytes(StandardCharsets.UTF_8)), eq("node-a"),
+                eq(RecordId.of("1-0")), eq(RecordId.of("2-0")));
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 이벤트도 ACK 하고 집계 — pending 에 남겨 계속 재시도하지 않음")
+    @SuppressWarnings("unchecked")
+    void handle_deliveryFails_stillAcks() {
+        // given
+        given(binaryRedisTemplate.execute(any(RedisCallback.class)))
+                .willAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        given(connection.streamCommands()).willReturn(streamCommands);
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        ByteRecord broken = StreamRecords.rawBytes(Map.of("r".getBytes(StandardCharsets.UTF_8), "x".getBytes(StandardCharsets.UTF_8),
+                "e".getBytes(StandardCharsets.UTF_8), payload))
+                .withStreamKey("chat:stream:1".getBytes(StandardCharsets.UTF_8)).withId(RecordId.of("1-0"));
+
+        // when
+        chatStreamTransport.handle(List.of(broken, record("chat:stream:1", "2-0", 17L, payload)));
+
+        // then
+        then(redisSubscriptionManager).should().deliverStreamEvent(17L, payload);
+        then(streamCommands).should().xAck(aryEq("chat:stream:1".getBytes(StandardCharsets.UTF_8)), eq("node-a"),
+                eq(RecordId.of("1-0")), eq(RecordId.of("2-0")));
+        assertThat(meterRegistry.counter("chat.redis.stream.undeliverable").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stream 전송인데 node-name 이 없으면 기동 실패")
+    void start_streamWithoutNodeName_fails() {
+        ReflectionTestUtils.setField(chatStreamTransport, "transport", "stream");
+        ReflectionTestUtils.setField(chatStreamTransport, "nodeName", "");
+
+        assertThatThrownBy(() -> chatStreamTransport.start())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("consumer 가 모두 오래 읽지 않은 다른 노드 group 만 삭제")
+    @SuppressWarnings("unchecked")
+    void destroyStaleGroups_onlyIdleForeignGroups() {
+        // given
+        given(binaryRedisTemplate.execute(any(RedisCallback.class)))
+                .willAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        given(connection.streamCommands()).willReturn(streamCommands);
+        byte[] streamKey = "chat:stream:1".getBytes(StandardCharsets.UTF_8);
+        given(streamCommands.xInfoGroups(streamKey)).willReturn(XInfoGroups.fromList(List.<Object>of(
+                group("node-a"), group("node-b"), group("node-old"))));
+        given(streamCommands.xInfoConsumers(streamKey, "node-b")).willReturn(consumers("node-b", 1_000L));
+        given(streamCommands.xInfoConsumers(streamKey, "node-old")).willReturn(consumers("node-old", 120_000L));
+
+        // when
+        chatStreamTransport.destroyStaleGroups(streamKey);
+
+        // then
+        then(streamCommands).should().xGroupDestroy(streamKey, "node-old");
+        then(streamCommands).should(never()).xGroupDestroy(streamKey, "node-a");
+        then(streamCommands).should(never()).xGroupDestroy(streamKey, "node-b");
+    }
+
+    private List<Object> group(String name) {
+        return List.of("name", name, "consumers", 1L, "pending", 0L, "last-delivered-id", "0-0");
+    }
+
+    private XInfoConsumers consumers(String group, long idleMillis) {
+        return XInfoConsumers.fromList(group, List.<Object>of(List.of("name", group, "pending", 0L, "idle", idleMillis)));
+    }
+
+    private ByteRecord record(String stream, String id, Long roomId, byte[] payload) {
+        return StreamRecords.rawBytes(Map.of(
+                "r".getBytes(StandardCharsets.UTF_8), String.valueOf(roomId).getBytes(StandardCharsets.UTF_8),
+                "e".getBytes(StandardCharsets.UTF_8), payload
+        )).withStreamKey(stream.getBytes(StandardCharsets.UTF_8)).withId(RecordId.of(id));
+    }
+}
@@ -0,0 +1,121 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.global.cluster.ClusterNode;
+import com.toy.talktalk.global.cluster.NodeInboxPublisher;
+import com.toy.talktalk.global.cluster.RoomRouteRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Mock
+    private ChatEventCodec chatEventCodec;
+
+    @Mock
+    private ChatStreamTransport chatStreamTransport;
+
+    @Mock
+    private RoomRouteRegistry roomRouteRegistry;
+
+    @Mock
+    private NodeInboxPublisher nodeInboxPublisher;
+
+    @Mock
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    @Mock
+    private RedisChatSubscriber redisChatSubscriber;
+
+    private RedisChatPublisher redisChatPublisher;
+
+    private final ReadAckResponse event = ReadAckResponse.of(1L, 10L);
+
+    @BeforeEach
+    void setUp() {
+        redisChatPublisher = new RedisChatPublisher(binaryRedisTemplate, chatEventCodec, chatStreamTransport, roomRouteRegistry, nodeInboxPublisher,
+                redisSubscriptionManager, redisChatSubscriber, new ClusterNode("node-a"));
+    }
+
+    @Test
+    @DisplayName("라우팅 비활성화 시 채팅방 채널로 발행")
+    void publish_broadcastMode() {
+        byte[] payload = {1, 2, 3};
+        given(chatEventCodec.encode(event)).willReturn(payload);
+
+        redisChatPublisher.publish(1L, event);
+
+        then(binaryRedisTemplate).should().convertAndSend("chat:room:1", payload);
+        then(nodeInboxPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("스트림 전송 설정 시 채널 대신 샤드 스트림에 추가")
+    void publish_streamTransport() {
+        byte[] payload = {1, 2, 3};
+        given(chatStreamTransport.isEnabled()).willReturn(true);
+        given(chatEventCodec.encode(event)).willReturn(payload);
+
+        redisChatPublisher.publish(1L, event);
+
+        then(chatStreamTransport).should().publish(1L, payload);
+        then(binaryRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("휘발성 신호는 스트림 전송 설정이어도 저장하지 않고 채팅방 채널로 발행")
+    void publishSignal_neverStream() {
+        ChatSignalResponse signal = new ChatSignalResponse(1L, 10L, SignalType.TYPING);
+        byte[] payload = {1, 2, 3};
+        given(chatEventCodec.encode(signal)).willReturn(payload);
+
+        redisChatPublisher.publishSignal(1L, signal);
+
+        then(binaryRedisTemplate).should().convertAndSend("chat:room:1", payload);
+        then(chatStreamTransport).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("구독자가 로컬에만 있으면 Redis 를 거치지 않음")
+    void publish_localOnly_skipsRedis() {
+        given(roomRouteRegistry.isEnabled()).willReturn(true);
+        given(redisSubscriptionManager.hasLocalSubscribers(1L)).willReturn(true);
+        given(roomRouteRegistry.nodesFor(1L)).willReturn(Set.of("node-a"));
+
+        redisChatPublisher.publish(1L, event);
+
+        then(redisChatSubscriber).should().deliver(event);
+        then(nodeInboxPublisher).shouldHaveNoInteractions();
+        then(binaryRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 구독자가 있으면 해당 노드 inbox 로만 전송")
+    void publish_remoteNodes_sendsToInbox() {
+        given(roomRouteRegistry.isEnabled()).willReturn(true);
+        given(redisSubscriptionManager.hasLocalSubscribers(1L)).willReturn(false);
+        given(roomRouteRegistry.nodesFor(1L)).willReturn(Set.of("node-b"));
+
+        redisChatPublisher.publish(1L, event);
+
+        then(nodeInboxPublisher).should().send("node-b", event);
+        then(redisChatSubscriber).should(never()).deliver(any());
+        then(binaryRedisTemplate).shouldHaveNoInteractions();
+    }
+}
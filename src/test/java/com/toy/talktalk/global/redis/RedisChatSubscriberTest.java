@@ -0,0 +1,144 @@
+package com.toy.talktalk.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.toy.talktalk.domain.chat.dto.ChatMessageResponse;
+import com.toy.talktalk.domain.chat.dto.ChatSignalResponse;
+import com.toy.talktalk.domain.chat.dto.ReadAckResponse;
+import com.toy.talktalk.domain.chat.dto.SignalType;
+import com.toy.talktalk.domain.chat.entity.MessageType;
+import com.toy.talktalk.global.websocket.BinaryStompBody;
+import com.toy.talktalk.global.websocket.SlowConsumerGuard;
+import com.toy.talktalk.global.websocket.WebSocketTransportTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisChatSubscriberTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final JsonChatEventCodec jsonCodec = new JsonChatEventCodec(objectMapper);
+    private final BinaryChatEventCodec binaryCodec = new BinaryChatEventCodec();
+    private final ReadAckResponse event = new ReadAckResponse(1L, 7L, LocalDateTime.of(2026, 3, 1, 12, 0));
+
+    private RedisChatSubscriber redisChatSubscriber;
+
+    @BeforeEach
+    void setUp() {
+        redisChatSubscriber = new RedisChatSubscriber(messagingTemplate,
+                new DelegatingChatEventCodec(jsonCodec, jsonCodec, binaryCodec), jsonCodec);
+    }
+
+    @Test
+    @DisplayName("JSON 단건 페이로드는 역직렬화 없이 같은 byte[] 를 STOMP 로 전달")
+    void deliverRoomPayload_json_passesThrough() {
+        // given
+        byte[] payload = jsonCodec.encode(event);
+
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, payload);
+
+        // then
+        Message<?> sent = captureSent("/sub/room/1");
+        assertThat(sent.getPayload()).isSameAs(payload);
+        assertThat(sent.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("바이너리 페이로드는 복원 후 JSON 으로 1회 직렬화해 전달")
+    void deliverRoomPayload_binary_encodesJsonOnce() {
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, binaryCodec.encode(event));
+
+        // then
+        Message<?> sent = captureSent("/sub/room/1");
+        assertThat(jsonCodec.decode((byte[]) sent.getPayload())).containsExactly(event);
+    }
+
+    @Test
+    @DisplayName("읽음 확인은 느린 세션에서 버릴 수 있도록 표시")
+    void deliver_readAck_markedDroppable() {
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, jsonCodec.encode(event));
+
+        // then
+        Message<?> sent = captureSent("/sub/room/1");
+        assertThat(sent.getHeaders().get(SlowConsumerGuard.DROPPABLE_HEADER)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("바이너리 본문 허용 시 채팅 메시지에만 바이너리 대체 본문을 실어 전달")
+    void deliverRoomPayload_binaryBodyEnabled_attachesBinaryBody() {
+        // given
+        ReflectionTestUtils.setField(redisChatSubscriber, "binaryBodyEnabled", true);
+        ChatMessageResponse message = new ChatMessageResponse(10L, 1L, 7L, "닉네임", "안녕",
+                MessageType.TEXT, LocalDateTime.of(2026, 3, 1, 12, 0));
+
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, jsonCodec.encode(message));
+        redisChatSubscriber.deliverRoomPayload(1L, jsonCodec.encode(event));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        then(messagingTemplate).should(times(2)).send(eq("/sub/room/1"), captor.capture());
+        BinaryStompBody binaryBody = (BinaryStompBody) captor.getAllValues().get(0)
+                .getHeaders().get(WebSocketTransportTracker.BINARY_BODY_HEADER);
+        assertThat(binaryCodec.decode(binaryBody.get())).containsExactly(message);
+        assertThat(captor.getAllValues().get(1).getHeaders()).doesNotContainKey(WebSocketTransportTracker.BINARY_BODY_HEADER);
+    }
+
+    @Test
+    @DisplayName("휘발성 신호는 채팅방 신호 destination 으로 버릴 수 있게 전달")
+    void deliverRoomPayload_signal_toSignalDestination() {
+        // given
+        byte[] payload = jsonCodec.encode(new ChatSignalResponse(1L, 7L, SignalType.TYPING));
+
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, payload);
+
+        // then
+        Message<?> sent = captureSent("/sub/room/1/signals");
+        assertThat(sent.getPayload()).isSameAs(payload);
+        assertThat(sent.getHeaders().get(SlowConsumerGuard.DROPPABLE_HEADER)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("손상된 페이로드는 전달하지 않음")
+    void deliverRoomPayload_corrupted_ignored() {
+        // when
+        redisChatSubscriber.deliverRoomPayload(1L, new byte[]{BinaryChatEventCodec.FORMAT_VERSION, 5});
+
+        // then
+        then(messagingTemplate).should(never()).send(anyString(), any());
+    }
+
+    private Message<?> captureSent(String destination) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        then(messagingTemplate).should().send(eq(destination), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,197 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.cluster.ClusterNode;
+import com.toy.talktalk.global.cluster.RoomRouteRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriptionManagerTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisChatSubscriber redisChatSubscriber;
+
+    @Mock
+    private RoomRouteRegistry roomRouteRegistry;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisSubscriptionManager redisSubscriptionManager;
+
+    @BeforeEach
+    void setUp() {
+        redisSubscriptionManager = new RedisSubscriptionManager(
+                listenerContainer, redisChatSubscriber, new RoomEventDispatcher(meterRegistry),
+                roomRouteRegistry, new ClusterNode("node-a"), meterRegistry);
+        ReflectionTestUtils.setField(redisSubscriptionManager, "releaseGraceMillis", 60_000L);
+        redisSubscriptionManager.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisSubscriptionManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방을 여러 세션이 구독해도 채널 구독은 1회")
+    void acquire_subscribesChannelOnce() {
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        redisSubscriptionManager.acquire("s2", "sub-0", 1L);
+
+        then(listenerContainer).should(times(1)).addMessageListener(any(MessageListener.class), eq(new ChannelTopic("chat:room:1")));
+        assertThat(meterRegistry.get("chat.redis.subscribed.channels").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 채팅방의 채널 구독이 느려도 다른 채팅방 구독 / 해제는 막히지 않음")
+    void acquire_slowSubscription_doesNotBlockOtherRooms() throws Exception {
+        // given
+        CountDownLatch subscribing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            subscribing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(listenerContainer).addMessageListener(any(MessageListener.class), eq(new ChannelTopic("chat:room:1")));
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> redisSubscriptionManager.acquire("s1", "sub-0", 1L));
+        assertThat(subscribing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            redisSubscriptionManager.acquire("s2", "sub-0", 2L);
+            redisSubscriptionManager.release("s2", "sub-0");
+        });
+
+        // then
+        assertThatCode(() -> other.get(5, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        assertThat(slow).isNotDone();
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("chat.redis.subscribed.channels").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채널 구독 실패 시 다음 SUBSCRIBE 에서 다시 구독")
+    void acquire_subscriptionFails_retriedOnNextAcquire() {
+        // given
+        willThrow(new IllegalStateException("down")).willDoNothing()
+                .given(listenerContainer).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+
+        // when
+        assertThatThrownBy(() -> redisSubscriptionManager.acquire("s1", "sub-0", 1L))
+                .isInstanceOf(IllegalStateException.class);
+        redisSubscriptionManager.acquire("s2", "sub-0", 1L);
+
+        // then
+        then(listenerContainer).should(times(2)).addMessageListener(any(MessageListener.class), eq(new ChannelTopic("chat:room:1")));
+        assertThat(meterRegistry.get("chat.redis.subscribed.channels").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 구독 해제 후 grace 만료 시 채널 해제")
+    void release_lastSubscriber_releasesAfterGrace() {
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        redisSubscriptionManager.acquire("s2", "sub-0", 1L);
+
+        redisSubscriptionManager.release("s1", "sub-0");
+        redisSubscriptionManager.releaseSession("s2");
+        assertThat(redisSubscriptionManager.hasLocalSubscribers(1L)).isFalse();
+        then(listenerContainer).should(never()).removeMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+
+        redisSubscriptionManager.releaseIfIdle(1L);
+
+        then(listenerContainer).should().removeMessageListener(any(MessageListener.class), eq(new ChannelTopic("chat:room:1")));
+        assertThat(meterRegistry.get("chat.redis.subscribed.channels").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("grace 기간 중 재구독하면 채널을 유지")
+    void acquire_duringGrace_keepsChannel() {
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        redisSubscriptionManager.releaseSession("s1");
+        redisSubscriptionManager.acquire("s2", "sub-0", 1L);
+
+        redisSubscriptionManager.releaseIfIdle(1L);
+
+        then(listenerContainer).should(times(1)).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        then(listenerContainer).should(never()).removeMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+    }
+
+    @Test
+    @DisplayName("라우팅 모드에서는 채널 대신 라우팅 테이블에 등록 / 해제")
+    void acquire_routingMode_registersRoute() {
+        given(roomRouteRegistry.isEnabled()).willReturn(true);
+
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        redisSubscriptionManager.releaseSession("s1");
+        redisSubscriptionManager.releaseIfIdle(1L);
+
+        then(roomRouteRegistry).should().register(1L);
+        then(roomRouteRegistry).should().unregister(1L);
+        then(listenerContainer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("라우팅 모드가 켜져 있으면 스트림 전송 설정이어도 라우팅 테이블에 등록")
+    void acquire_routingModeWithStreamTransport_registersRoute() {
+        given(roomRouteRegistry.isEnabled()).willReturn(true);
+        ReflectionTestUtils.setField(redisSubscriptionManager, "transport", "stream");
+
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+
+        then(roomRouteRegistry).should().register(1L);
+    }
+
+    @Test
+    @DisplayName("스트림 전송에서는 채널을 구독하지 않고 로컬 구독자에게만 전달")
+    void acquire_streamTransport_noChannel() {
+        ReflectionTestUtils.setField(redisSubscriptionManager, "transport", "stream");
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        redisSubscriptionManager.deliverStreamEvent(1L, payload);
+        redisSubscriptionManager.deliverStreamEvent(2L, payload);
+
+        then(listenerContainer).shouldHaveNoInteractions();
+        then(redisChatSubscriber).should().deliverRoomPayload(1L, payload);
+        assertThat(meterRegistry.counter("chat.redis.messages.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 없으면 메시지를 전달하지 않고 drop 카운트")
+    void onMessage_noLocalSubscriber_dropped() {
+        redisSubscriptionManager.acquire("s1", "sub-0", 1L);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        then(listenerContainer).should().addMessageListener(listener.capture(), any(ChannelTopic.class));
+        redisSubscriptionManager.releaseSession("s1");
+
+        listener.getValue().onMessage(new DefaultMessage(
+                "chat:room:1".getBytes(StandardCharsets.UTF_8), "{}".getBytes(StandardCharsets.UTF_8)), null);
+
+        then(redisChatSubscriber).shouldHaveNoInteractions();
+        assertThat(meterRegistry.counter("chat.redis.messages.dropped").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,187 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RoomEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RoomEventDispatcher roomEventDispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        roomEventDispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방 이벤트는 전달 순서 유지")
+    void dispatch_keepsOrderWithinRoom() throws InterruptedException {
+        // given
+        roomEventDispatcher = start(4, 1000, "block");
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+
+        // when
+        IntStream.range(0, 500).forEach(i -> roomEventDispatcher.dispatch(1L, () -> {
+            delivered.add(i);
+            done.countDown();
+        }));
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("느린 채팅방이 다른 lane 의 채팅방 전달을 막지 않음")
+    void dispatch_slowRoomDoesNotBlockOthers() throws InterruptedException {
+        // given
+        roomEventDispatcher = start(2, 10, "block");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRoomDelivered = new CountDownLatch(1);
+        roomEventDispatcher.dispatch(0L, () -> awaitQuietly(release));
+
+        // when
+        roomEventDispatcher.dispatch(1L, otherRoomDelivered::countDown);
+
+        // then
+        assertThat(otherRoomDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("같은 시간대에 만든 snowflake 채팅방도 여러 lane 에 나눠 전달")
+    void dispatch_snowflakeRoomIds_spreadAcrossLanes() throws InterruptedException {
+        // given — 채팅방 생성처럼 밀리초마다 하나씩
+        roomEventDispatcher = start(8, 1000, "drop");
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3L, 10L, () -> clock.getAndAdd(1L));
+        Set<String> laneThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(64);
+
+        // when
+        for (int i = 0; i < 64; i++) {
+            roomEventDispatcher.dispatch(generator.nextId(), () -> {
+                laneThreads.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(laneThreads).hasSizeGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("drop 정책 — lane 이 가득 차면 버리고 overflow 카운트")
+    void dispatch_dropPolicy_countsOverflow() {
+        // given
+        roomEventDispatcher = start(1, 1, "drop");
+        CountDownLatch release = new CountDownLatch(1);
+        roomEventDispatcher.dispatch(1L, () -> awaitQuietly(release));
+        awaitLaneBusy();
+
+        // when
+        roomEventDispatcher.dispatch(1L, () -> { });
+        roomEventDispatcher.dispatch(1L, () -> { });
+
+        // then
+        assertThat(meterRegistry.counter("chat.dispatch.overflow", "policy", "drop").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("block 정책 — lane 이 계속 가득 차 있으면 block-timeout-ms 후 버리고 반환")
+    void dispatch_blockPolicy_givesUpAfterTimeout() {
+        // given
+        roomEventDispatcher = start(1, 1, "block");
+        ReflectionTestUtils.setField(roomEventDispatcher, "blockTimeoutMillis", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        roomEventDispatcher.dispatch(1L, () -> awaitQuietly(release));
+        awaitLaneBusy();
+        roomEventDispatcher.dispatch(1L, () -> { });
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> roomEventDispatcher.dispatch(1L, () -> { }));
+
+        // then
+        assertThat(meterRegistry.counter("chat.dispatch.overflow", "policy", "block").count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 후 dispatch 는 대기하지 않고 버림")
+    void dispatch_afterStop_returnsImmediately() throws InterruptedException {
+        // given
+        roomEventDispatcher = start(1, 1, "block");
+        roomEventDispatcher.stop();
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            roomEventDispatcher.dispatch(1L, () -> delivered.add(1));
+            roomEventDispatcher.dispatch(1L, () -> delivered.add(2));
+        });
+
+        // then
+        assertThat(delivered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출 스레드에서 바로 실행")
+    void dispatch_disabled_runsInline() {
+        // given
+        roomEventDispatcher = new RoomEventDispatcher(meterRegistry);
+        Thread caller = Thread.currentThread();
+        Thread[] executed = new Thread[1];
+
+        // when
+        roomEventDispatcher.dispatch(1L, () -> executed[0] = Thread.currentThread());
+
+        // then
+        assertThat(executed[0]).isSameAs(caller);
+    }
+
+    private RoomEventDispatcher start(int lanes, int queueCapacity, String overflowPolicy) {
+        RoomEventDispatcher dispatcher = new RoomEventDispatcher(meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "enabled", true);
+        ReflectionTestUtils.setField(dispatcher, "laneCount", lanes);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(dispatcher, "overflowPolicyName", overflowPolicy);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    // 첫 작업이 lane 스레드에 꺼내질 때까지 대기
+    private void awaitLaneBusy() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("chat.dispatch.queue.depth").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
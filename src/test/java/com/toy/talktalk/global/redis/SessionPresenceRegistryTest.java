@@ -0,0 +1,145 @@
+package com.toy.talktalk.global.redis;
+
+import com.toy.talktalk.global.cluster.ClusterNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionPresenceRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private final byte[] bitmapKey = "presence:bitmap:node-a".getBytes(StandardCharsets.UTF_8);
+    private SessionPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SessionPresenceRegistry(redisTemplate, new ClusterNode("node-a"));
+        ReflectionTestUtils.setField(registry, "mode", "session");
+        ReflectionTestUtils.setField(registry, "ttlMillis", 30_000L);
+        ReflectionTestUtils.setField(registry, "nodeCacheMillis", 1_000L);
+    }
+
+    @Test
+    @DisplayName("다른 세션이 남아 있으면 세션 하나가 끊겨도 온라인 유지")
+    void sessionClosed_otherSessionRemains_staysOnline() {
+        // given
+        registry.sessionOpened(7L, "s1");
+        registry.sessionOpened(7L, "s2");
+        registry.sessionOpened(7L, "s2");
+
+        // when
+        registry.sessionClosed("s1");
+        registry.flushPending();
+
+        // then
+        assertThat(registry.localSessionCount(7L)).isEqualTo(1);
+        RedisConnection connection = replayWrites(1);
+        then(connection.stringCommands()).should().setBit(bitmapKey, 7L, true);
+        then(connection.stringCommands()).should(never()).setBit(bitmapKey, 7L, false);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊길 때만 bit 해제")
+    void sessionClosed_lastSession_clearsBit() {
+        // given
+        registry.sessionOpened(7L, "s1");
+        registry.flushPending();
+
+        // when
+        registry.sessionClosed("s1");
+        registry.sessionClosed("s1");
+        registry.flushPending();
+
+        // then
+        assertThat(registry.localSessionCount(7L)).isZero();
+        RedisConnection connection = replayWrites(2);
+        then(connection.stringCommands()).should().setBit(bitmapKey, 7L, true);
+        then(connection.stringCommands()).should().setBit(bitmapKey, 7L, false);
+    }
+
+    @Test
+    @DisplayName("세션 수 갱신 중에는 Redis 를 호출하지 않고, 기록은 최신 값 한 번")
+    void sessionOpened_noRedisIoUntilFlush_lastValueWins() {
+        // given
+        registry.sessionOpened(7L, "s1");
+        registry.sessionClosed("s1");
+        then(redisTemplate).shouldHaveNoInteractions();
+
+        // when
+        registry.flushPending();
+
+        // then
+        RedisConnection connection = replayWrites(1);
+        then(connection.stringCommands()).should(never()).setBit(bitmapKey, 7L, true);
+        then(connection.stringCommands()).should().setBit(bitmapKey, 7L, false);
+    }
+
+    @Test
+    @DisplayName("Redis 기록 실패는 예외를 던지지 않고 다음 flush 에서 재시도")
+    void flushPending_writeFails_retriedNextTime() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(List.of());
+        registry.sessionOpened(7L, "s1");
+
+        // when
+        assertThatCode(registry::flushPending).doesNotThrowAnyException();
+        registry.flushPending();
+
+        // then
+        RedisConnection connection = replayWrites(2);
+        then(connection.stringCommands()).should(times(2)).setBit(bitmapKey, 7L, true);
+    }
+
+    @Test
+    @DisplayName("대량 조회는 살아 있는 노드 bitmap 을 OR 해서 판단")
+    void onlineUserIds_mergesLiveNodes() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeByScore(eq("presence:nodes"), anyDouble(), anyDouble()))
+                .willReturn(Set.of("node-a", "node-b"));
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(List.of(1L, 0L, 0L), List.of(0L, 0L, 1L)));
+
+        // when
+        Set<Long> online = registry.onlineUserIds(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(online).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    // 기록된 파이프라인 콜백을 deep stub 연결에 다시 실행해 명령 확인
+    @SuppressWarnings("unchecked")
+    private RedisConnection replayWrites(int expectedWrites) {
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        then(redisTemplate).should(times(expectedWrites)).executePipelined(captor.capture());
+        RedisConnection connection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+        captor.getAllValues().forEach(callback -> callback.doInRedis(connection));
+        return connection;
+    }
+}
@@ -0,0 +1,77 @@
+package com.toy.talktalk.global.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountServiceTest {
+
+    @InjectMocks
+    private UnreadCountService unreadCountService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Test
+    @DisplayName("단건 메시지 unread 증가는 스크립트 1회 호출")
+    void incrementUnread_singleMessage_executesScriptOnce() {
+        unreadCountService.incrementUnread(10L, 1L, new long[]{1L, 2L, 3L});
+
+        then(redisTemplate).should(times(1)).execute(
+                any(RedisScript.class),
+                eq(List.of("unread:10", "unread:user:1", "unread:user:2", "unread:user:3")),
+                eq("10"), eq("1"), eq("1"), eq("1"), eq("1"), eq("1"), eq("2"), eq("3"));
+    }
+
+    @Test
+    @DisplayName("여러 발신자의 메시지를 발신자별 개수와 함께 한 번에 전달")
+    void incrementUnread_batch_passesSenderCounts() {
+        Map<Long, Long> messageCountBySender = new LinkedHashMap<>();
+        messageCountBySender.put(1L, 2L);
+        messageCountBySender.put(2L, 1L);
+
+        unreadCountService.incrementUnread(10L, messageCountBySender, new long[]{1L, 2L});
+
+        then(redisTemplate).should(times(1)).execute(
+                any(RedisScript.class),
+                eq(List.of("unread:10", "unread:user:1", "unread:user:2")),
+                eq("10"), eq("3"), eq("2"), eq("1"), eq("2"), eq("2"), eq("1"), eq("1"), eq("2"));
+    }
+
+    @Test
+    @DisplayName("유저별 unread 인덱스를 HGETALL 1회로 조회")
+    void getUnreadCounts_readsUserIndex() {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("unread:user:1")).willReturn(Map.of("10", "3", "20", "1"));
+
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(1L);
+
+        assertThat(unreadCounts).containsEntry(10L, 3L).containsEntry(20L, 1L);
+    }
+
+    @Test
+    @DisplayName("멤버가 없으면 Redis 를 호출하지 않음")
+    void incrementUnread_noMembers_skipsRedis() {
+        unreadCountService.incrementUnread(10L, 1L, new long[0]);
+
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,131 @@
+package com.toy.talktalk.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChatSubscriptionRegistryTest {
+
+    private final ChatSubscriptionRegistry registry = new ChatSubscriptionRegistry();
+
+    @Test
+    @DisplayName("채팅방 구독은 roomId 로 정확히 일치 조회, 변경이 없으면 같은 결과 재사용")
+    void findSubscriptions_room() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/room/1"));
+        registry.registerSubscription(subscribe("s2", "sub-0", "/sub/room/1"));
+        registry.registerSubscription(subscribe("s3", "sub-0", "/sub/room/10"));
+
+        // when
+        MultiValueMap<String, String> first = registry.findSubscriptions(message("/sub/room/1"));
+        MultiValueMap<String, String> second = registry.findSubscriptions(message("/sub/room/1"));
+
+        // then
+        assertThat(first).containsOnlyKeys("s1", "s2");
+        assertThat(second).isSameAs(first);
+        assertThat(registry.findSubscriptions(message("/sub/room/2"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독 해제 / 세션 종료 시 제거, 빈 채팅방은 색인에서 제거")
+    void unregister_removesRoom() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/room/1"));
+        registry.registerSubscription(subscribe("s1", "sub-1", "/sub/room/2"));
+        registry.registerSubscription(subscribe("s2", "sub-0", "/sub/room/1"));
+
+        // when
+        registry.unregisterSubscription(unsubscribe("s2", "sub-0"));
+        registry.unregisterAllSubscriptions("s1");
+
+        // then
+        assertThat(registry.findSubscriptions(message("/sub/room/1"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/sub/room/2"))).isEmpty();
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 subscriptionId 로 다시 구독하면 이전 채팅방에서 제거, 같은 채팅방이면 중복 추가하지 않음")
+    void resubscribe_replacesPrevious() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/room/1"));
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/room/1"));
+
+        // when
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/room/2"));
+
+        // then
+        assertThat(registry.findSubscriptions(message("/sub/room/1"))).isEmpty();
+        assertThat(registry.findSubscriptions(message("/sub/room/2")).get("s1")).containsExactly("sub-0");
+        assertThat(registry.roomCount()).isEqualTo(1);
+
+        registry.unregisterSubscription(unsubscribe("s1", "sub-0"));
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅방 외 destination 은 기본 registry 로 처리")
+    void otherDestination_fallback() {
+        // given
+        registry.registerSubscription(subscribe("s1", "sub-0", "/sub/receipts-users1"));
+
+        // when
+        MultiValueMap<String, String> subscriptions = registry.findSubscriptions(message("/sub/receipts-users1"));
+
+        // then
+        assertThat(subscriptions.get("s1")).containsExactly("sub-0");
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 구독 / 해제 후에도 구독 수 일치")
+    void concurrentSubscribe() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        IntStream.range(0, 1000).forEach(i -> executor.execute(() -> {
+            registry.registerSubscription(subscribe("s" + i, "sub-0", "/sub/room/1"));
+            if (i % 2 == 0) {
+                registry.unregisterAllSubscriptions("s" + i);
+            }
+        }));
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.findSubscriptions(message("/sub/room/1"))).hasSize(500);
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
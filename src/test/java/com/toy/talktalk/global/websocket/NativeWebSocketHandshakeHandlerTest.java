@@ -0,0 +1,46 @@
+package com.toy.talktalk.global.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NativeWebSocketHandshakeHandlerTest {
+
+    private final WebSocketExtension deflate = new WebSocketExtension("permessage-deflate",
+            Map.of("client_max_window_bits", "15"));
+    private final List<WebSocketExtension> supported = List.of(new WebSocketExtension("permessage-deflate"));
+
+    @Test
+    @DisplayName("deflate 비활성 시 클라이언트가 요청해도 permessage-deflate 제외")
+    void filterRequestedExtensions_deflateDisabled() {
+        // given
+        NativeWebSocketHandshakeHandler handler = new NativeWebSocketHandshakeHandler(false, false);
+
+        // when
+        List<WebSocketExtension> result = handler.filterRequestedExtensions(null, List.of(deflate), supported);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("no-context-takeover 설정 시 요청 파라미터에 server_no_context_takeover 추가")
+    void filterRequestedExtensions_noContextTakeover() {
+        // given
+        NativeWebSocketHandshakeHandler handler = new NativeWebSocketHandshakeHandler(true, true);
+
+        // when
+        List<WebSocketExtension> result = handler.filterRequestedExtensions(null, List.of(deflate), supported);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getParameters())
+                .containsKey(NativeWebSocketHandshakeHandler.SERVER_NO_CONTEXT_TAKEOVER)
+                .containsEntry("client_max_window_bits", "15");
+    }
+}
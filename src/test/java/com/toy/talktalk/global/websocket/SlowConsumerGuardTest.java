@@ -0,0 +1,119 @@
+package com.toy.talktalk.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlowConsumerGuardTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession rawSession;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SlowConsumerGuard slowConsumerGuard;
+    private WebSocketSession trackedSession;
+
+    @BeforeEach
+    void setUp() {
+        slowConsumerGuard = new SlowConsumerGuard(meterRegistry);
+        ReflectionTestUtils.setField(slowConsumerGuard, "slowBufferedBytes", 100L);
+        ReflectionTestUtils.setField(slowConsumerGuard, "slowSendMillis", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowConsumerGuard.shutdown();
+    }
+
+    @Test
+    @DisplayName("소켓 쓰기가 끝나면 세션 대기량에서 제외")
+    void sendMessage_releasesBufferedBytes() throws Exception {
+        // given
+        connect("drop-non-critical");
+
+        // when
+        assertThat(slowConsumerGuard.preSend(message(60, false), null)).isNotNull();
+        double buffered = meterRegistry.get("chat.websocket.outbound.buffered.bytes").gauge().value();
+        trackedSession.sendMessage(new TextMessage("frame"));
+
+        // then
+        assertThat(buffered).isEqualTo(60);
+        assertThat(meterRegistry.get("chat.websocket.outbound.buffered.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("drop-non-critical — 느린 세션은 읽음 확인만 버리고 채팅 메시지는 전달")
+    void preSend_slowSession_dropsNonCritical() throws Exception {
+        // given
+        connect("drop-non-critical");
+        slowConsumerGuard.preSend(message(150, false), null);
+
+        // when
+        Message<?> readAck = slowConsumerGuard.preSend(message(50, true), null);
+        Message<?> chatMessage = slowConsumerGuard.preSend(message(50, false), null);
+
+        // then
+        assertThat(readAck).isNull();
+        assertThat(chatMessage).isNotNull();
+        assertThat(meterRegistry.counter("chat.websocket.outbound.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.websocket.slow.sessions").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("disconnect — 느린 세션은 재동기화 안내와 함께 종료")
+    void preSend_slowSession_disconnects() throws Exception {
+        // given
+        connect("disconnect");
+        slowConsumerGuard.preSend(message(150, false), null);
+
+        // when
+        Message<?> result = slowConsumerGuard.preSend(message(50, false), null);
+
+        // then
+        assertThat(result).isNull();
+        then(rawSession).should(timeout(1000)).close(SlowConsumerGuard.SLOW_CONSUMER_CLOSE);
+        assertThat(meterRegistry.counter("chat.websocket.slow.disconnects", "reason", "policy").count()).isEqualTo(1);
+    }
+
+    private void connect(String policy) throws Exception {
+        ReflectionTestUtils.setField(slowConsumerGuard, "policyName", policy);
+        slowConsumerGuard.init();
+        given(rawSession.getId()).willReturn("s1");
+
+        slowConsumerGuard.decorate(handler).afterConnectionEstablished(rawSession);
+
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        then(handler).should().afterConnectionEstablished(captor.capture());
+        trackedSession = captor.getValue();
+    }
+
+    private Message<byte[]> message(int size, boolean droppable) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("s1");
+        if (droppable) {
+            accessor.setHeader(SlowConsumerGuard.DROPPABLE_HEADER, true);
+        }
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,98 @@
+package com.toy.talktalk.global.websocket;
+
+import com.toy.talktalk.domain.chat.service.ChatRoomMembershipCache;
+import com.toy.talktalk.domain.chat.service.PresenceBroadcaster;
+import com.toy.talktalk.global.jwt.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private PresenceBroadcaster presenceBroadcaster;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtProvider, presenceBroadcaster, chatRoomMembershipCache);
+    }
+
+    @Test
+    @DisplayName("채팅방 멤버는 채팅방 / 신호 구독 허용")
+    void subscribe_member_allowed() {
+        // given
+        given(chatRoomMembershipCache.isMember(42L, 7L)).willReturn(true);
+
+        // when & then
+        assertThatCode(() -> interceptor.preSend(subscribe("/sub/room/42", 7L), null)).doesNotThrowAnyException();
+        assertThatCode(() -> interceptor.preSend(subscribe("/sub/room/42/signals", 7L), null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("멤버가 아니면 채팅방 구독 거부")
+    void subscribe_notMember_denied() {
+        // given
+        given(chatRoomMembershipCache.isMember(42L, 7L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/sub/room/42", 7L), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/sub/*/42", "/sub/**", "/sub/room/{id}", "/sub/room/4?", "/sub/room/42/other",
+            "/sub/receipts-userabc", "/sub/room/+42", "/topic/room/42"})
+    @DisplayName("패턴 / 목록에 없는 경로 구독은 멤버 확인 없이 거부")
+    void subscribe_patternOrUnknownDestination_denied(String destination) {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(destination, 7L), null))
+                .isInstanceOf(AccessDeniedException.class);
+
+        then(chatRoomMembershipCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("/user 목적지는 인증된 세션만 허용")
+    void subscribe_userDestination() {
+        assertThatCode(() -> interceptor.preSend(subscribe("/user/sub/receipts", 7L), null)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/user/sub/receipts", null), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private Message<byte[]> subscribe(String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("s1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        if (userId != null) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,134 @@
+package com.toy.talktalk.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketTransportTrackerTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession nativeSession;
+
+    @Mock
+    private SockJsSession sockJsSession;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final byte[] binary = {1, 2, 3};
+    private final AtomicInteger encodeCount = new AtomicInteger();
+    private WebSocketTransportTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new WebSocketTransportTracker(meterRegistry);
+        ReflectionTestUtils.setField(tracker, "binaryBodyEnabled", true);
+        tracker.init();
+    }
+
+    @Test
+    @DisplayName("바이너리 본문을 요청한 순수 WebSocket 세션은 octet-stream 본문으로 교체, 인코딩은 1회")
+    void preSend_nativeBinarySession_swapsPayload() throws Exception {
+        // given
+        connect(nativeSession, "n1");
+        BinaryStompBody binaryBody = binaryBody();
+
+        // when
+        Message<?> first = tracker.preSend(message("n1", binaryBody), null);
+        Message<?> second = tracker.preSend(message("n1", binaryBody), null);
+
+        // then
+        assertThat(first.getPayload()).isSameAs(binary);
+        assertThat(first.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(first.getHeaders()).doesNotContainKey(WebSocketTransportTracker.BINARY_BODY_HEADER);
+        assertThat(second.getPayload()).isSameAs(binary);
+        assertThat(encodeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SockJS 세션은 바이너리 본문을 요청해도 JSON 유지")
+    void preSend_sockJsSession_keepsJson() throws Exception {
+        // given
+        connect(sockJsSession, "s1");
+        Message<byte[]> message = message("s1", binaryBody());
+
+        // when
+        Message<?> result = tracker.preSend(message, null);
+
+        // then
+        assertThat(result).isSameAs(message);
+        assertThat(encodeCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 방식별 세션 수 / 송신 메시지 / 송신 바이트 집계")
+    void metrics_byTransport() throws Exception {
+        // given
+        connect(nativeSession, "n1");
+        connect(sockJsSession, "s1");
+
+        // when
+        Message<?> sent = tracker.preSend(message("n1", binaryBody()), null);
+        tracker.afterSendCompletion(sent, null, true, null);
+        tracker.afterSendCompletion(message("s1", null), null, true, null);
+        tracker.afterSendCompletion(message("s1", null), null, false, null);
+
+        // then
+        assertThat(meterRegistry.get("chat.websocket.sessions").tag("transport", "native").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.websocket.sessions").tag("transport", "sockjs").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.websocket.outbound.bytes", "transport", "native").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("chat.websocket.outbound.bytes", "transport", "sockjs").count()).isEqualTo(5);
+        assertThat(meterRegistry.counter("chat.websocket.outbound.messages", "transport", "sockjs").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.websocket.inbound.messages", "transport", "native").count()).isEqualTo(1);
+    }
+
+    private void connect(WebSocketSession session, String sessionId) throws Exception {
+        given(session.getId()).willReturn(sessionId);
+        tracker.decorate(handler).afterConnectionEstablished(session);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(WebSocketTransportTracker.BODY_ENCODING_HEADER, "binary");
+        tracker.inboundInterceptor().preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private BinaryStompBody binaryBody() {
+        return new BinaryStompBody(() -> {
+            encodeCount.incrementAndGet();
+            return binary;
+        });
+    }
+
+    private Message<byte[]> message(String sessionId, BinaryStompBody binaryBody) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (binaryBody != null) {
+            accessor.setHeader(WebSocketTransportTracker.BINARY_BODY_HEADER, binaryBody);
+        }
+        return MessageBuilder.createMessage("{\"a\"}".getBytes(), accessor.getMessageHeaders());
+    }
+}